@@ -1,31 +1,47 @@
 package seedu.binbash;
 
 import seedu.binbash.command.Command;
+import seedu.binbash.enums.DurabilityLevelEnum;
+import seedu.binbash.enums.SnapshotFormatEnum;
 import seedu.binbash.exceptions.BinBashException;
 import seedu.binbash.inventory.ItemList;
 import seedu.binbash.logger.BinBashLogger;
 import seedu.binbash.parser.Parser;
 import seedu.binbash.quotes.Quotes;
+import seedu.binbash.storage.PersistenceWorker;
 import seedu.binbash.storage.Storage;
 import seedu.binbash.ui.Ui;
 
+import java.util.logging.Level;
+
 public class BinBash {
     private Ui userInterface;
     private ItemList itemList;
     private Parser inputParser;
     private Storage storage;
+    private PersistenceWorker persistenceWorker;
     private BinBashLogger logger;
 
     public BinBash() {
         logger = new BinBashLogger(BinBash.class.getName());
+        BinBashLogger.setMinimumLevel(readLogLevel());
         inputParser = new Parser();
         userInterface = new Ui();
         storage = new Storage();
+        storage.setDurabilityLevel(readEnumProperty("binbash.durability", DurabilityLevelEnum.PER_COMMAND));
+        storage.setSnapshotFormat(readEnumProperty("binbash.format", SnapshotFormatEnum.TEXT));
         itemList = new ItemList(storage.loadData());
+        persistenceWorker = new PersistenceWorker(storage, itemList);
     }
 
     private void run() {
         logger.info("BinBash starting...");
+        persistenceWorker.start();
+        // Saves any outstanding changes and log messages when the JVM exits, even if the user did not exit
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            persistenceWorker.shutdown();
+            BinBashLogger.shutdown();
+        }));
 
         userInterface.greet();
         userInterface.talk(itemList.getProfitMargin());
@@ -35,20 +51,51 @@ public class BinBash {
             try {
                 String userInput = userInterface.readUserCommand();
                 Command userCommand = inputParser.parseCommand(userInput);
-                userCommand.execute(itemList);
+                synchronized (itemList) {
+                    userCommand.execute(itemList);
+                }
                 userInterface.talk(userCommand.getExecutionUiOutput());
 
                 if (userCommand.hasToSave()) {
-                    storage.saveToStorage(itemList.getItemList());
+                    persistenceWorker.markDirty();
                 }
 
             } catch (BinBashException e) {
                 userInterface.warn(e.getMessage());
             }
         }
+        persistenceWorker.shutdown();
         logger.info("BinBash exiting...");
     }
 
+    /**
+     * Returns the log level set through the binbash.logLevel system property, such as WARNING or OFF,
+     * or INFO if it is not set or not a valid log level.
+     */
+    private Level readLogLevel() {
+        String level = System.getProperty("binbash.logLevel", Level.INFO.getName());
+        try {
+            return Level.parse(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown binbash.logLevel value %s, defaulting to INFO", level);
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * Returns the constant of an enum set through the given system property, such as binbash.durability,
+     * or the default value if it is not set or not one of the enum's constants.
+     */
+    private <E extends Enum<E>> E readEnumProperty(String property, E defaultValue) {
+        String value = System.getProperty(property, defaultValue.name());
+        try {
+            return Enum.valueOf(defaultValue.getDeclaringClass(), value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warning("Unknown %s value %s, defaulting to %s", property, value, defaultValue);
+            return defaultValue;
+        }
+    }
+
     /**
      * Main entry-point for the BinBash application.
      */
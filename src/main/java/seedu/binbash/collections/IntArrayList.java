@@ -0,0 +1,72 @@
+package seedu.binbash.collections;
+
+import java.util.Arrays;
+
+/**
+ * A growable array of ints, so that the ints are not boxed.
+ */
+public class IntArrayList {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty list.
+     */
+    public IntArrayList() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty list with room for a number of ints before it has to grow.
+     *
+     * @param initialCapacity the number of ints the list can hold before it grows.
+     */
+    public IntArrayList(int initialCapacity) {
+        this.elements = new int[Math.max(initialCapacity, 1)];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of ints in the list.
+     *
+     * @return the number of ints in the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the int at an index of the list.
+     *
+     * @param index the index, from 0 to size - 1.
+     * @return the int at the index.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return elements[index];
+    }
+
+    /**
+     * Appends an int to the end of the list.
+     *
+     * @param element the int to be appended.
+     */
+    public void add(int element) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+    }
+
+    /**
+     * Removes every int from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+}
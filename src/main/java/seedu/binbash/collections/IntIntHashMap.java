@@ -0,0 +1,140 @@
+package seedu.binbash.collections;
+
+/**
+ * A hash map from int keys to int values, with open addressing, so that neither keys nor values are boxed.
+ * Collisions are resolved by linear probing, and removals move the following entries back into the gap,
+ * so no deleted markers are left behind.
+ */
+public class IntIntHashMap {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] isFilled;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntIntHashMap() {
+        this.keys = new int[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        this.isFilled = new boolean[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of keys in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether a key is in the map.
+     *
+     * @param key the key.
+     * @return true if the key is in the map, false otherwise.
+     */
+    public boolean containsKey(int key) {
+        return isFilled[findSlot(keys, isFilled, key)];
+    }
+
+    /**
+     * Returns the value of a key, or a default value if the key is not in the map.
+     *
+     * @param key the key.
+     * @param defaultValue the value to return if the key is not in the map.
+     * @return the value of the key, or the default value.
+     */
+    public int getOrDefault(int key, int defaultValue) {
+        int slot = findSlot(keys, isFilled, key);
+        return isFilled[slot] ? values[slot] : defaultValue;
+    }
+
+    /**
+     * Sets the value of a key, replacing any value it had.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(int key, int value) {
+        int slot = findSlot(keys, isFilled, key);
+        if (!isFilled[slot]) {
+            keys[slot] = key;
+            isFilled[slot] = true;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes a key from the map.
+     *
+     * @param key the key.
+     * @return true if the key was in the map, false otherwise.
+     */
+    public boolean remove(int key) {
+        int slot = findSlot(keys, isFilled, key);
+        if (!isFilled[slot]) {
+            return false;
+        }
+        isFilled[slot] = false;
+        size--;
+        // Moves the following keys in the same run back into the gap, so that each can still be found
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; isFilled[next]; next = (next + 1) & mask) {
+            int home = getHomeSlot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                isFilled[gap] = true;
+                isFilled[next] = false;
+                gap = next;
+            }
+        }
+        return true;
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldIsFilled = isFilled;
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        isFilled = new boolean[oldIsFilled.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldIsFilled[i]) {
+                int slot = findSlot(keys, isFilled, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                isFilled[slot] = true;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot it would be put in.
+     */
+    private static int findSlot(int[] keys, boolean[] isFilled, int key) {
+        int mask = keys.length - 1;
+        int slot = getHomeSlot(key, mask);
+        while (isFilled[slot] && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int getHomeSlot(int key, int mask) {
+        // Spreads consecutive keys, such as item IDs, across the table, then folds the high bits into the low bits
+        int hash = key * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
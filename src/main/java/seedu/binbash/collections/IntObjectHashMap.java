@@ -0,0 +1,165 @@
+package seedu.binbash.collections;
+
+import java.util.function.Consumer;
+
+/**
+ * A hash map from int keys to non-null values, with open addressing, so that keys are not boxed.
+ * Collisions are resolved by linear probing, and removals move the following entries back into the gap,
+ * so no deleted markers are left behind.
+ *
+ * @param <V> the type of the values.
+ */
+public class IntObjectHashMap<V> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] keys;
+    // A null value marks an empty slot
+    private Object[] values;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public IntObjectHashMap() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty map with a number of slots, which is rounded up to a power of two.
+     * The map grows once more than half of its slots are filled.
+     *
+     * @param slotCount the number of slots, at least 1.
+     */
+    public IntObjectHashMap(int slotCount) {
+        int capacity = Integer.highestOneBit(Math.max(slotCount - 1, 1)) << 1;
+        this.keys = new int[capacity];
+        this.values = new Object[capacity];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of keys in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key.
+     * @return the value of the key, or null if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        return (V) values[findSlot(keys, values, key)];
+    }
+
+    /**
+     * Returns whether a key is in the map.
+     *
+     * @param key the key.
+     * @return true if the key is in the map, false otherwise.
+     */
+    public boolean containsKey(int key) {
+        return values[findSlot(keys, values, key)] != null;
+    }
+
+    /**
+     * Sets the value of a key, replacing any value it had.
+     *
+     * @param key the key.
+     * @param value the value, which must not be null.
+     */
+    public void put(int key, V value) {
+        assert value != null;
+        int slot = findSlot(keys, values, key);
+        if (values[slot] == null) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes a key from the map.
+     *
+     * @param key the key.
+     * @return the value the key had, or null if the key was not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int key) {
+        int slot = findSlot(keys, values, key);
+        Object removedValue = values[slot];
+        if (removedValue == null) {
+            return null;
+        }
+        values[slot] = null;
+        size--;
+        // Moves the following keys in the same run back into the gap, so that each can still be found
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = getHomeSlot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                values[next] = null;
+                gap = next;
+            }
+        }
+        return (V) removedValue;
+    }
+
+    /**
+     * Passes every value in the map to a consumer, in no particular order.
+     *
+     * @param consumer the consumer of the values.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (Object value : values) {
+            if (value != null) {
+                consumer.accept((V) value);
+            }
+        }
+    }
+
+    private void resize() {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = findSlot(keys, values, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot it would be put in.
+     */
+    private static int findSlot(int[] keys, Object[] values, int key) {
+        int mask = keys.length - 1;
+        int slot = getHomeSlot(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int getHomeSlot(int key, int mask) {
+        // Spreads consecutive keys, such as item IDs, across the table, then folds the high bits into the low bits
+        int hash = key * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
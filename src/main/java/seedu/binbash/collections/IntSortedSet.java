@@ -0,0 +1,96 @@
+package seedu.binbash.collections;
+
+import java.util.Arrays;
+
+/**
+ * A set of ints kept sorted in a growable array, so that the ints are not boxed and can be read by their rank.
+ * Finding an int takes O(log n) time. Adding or removing one shifts the larger ints along, so ints are best added
+ * in ascending order, in which case adding one is an append.
+ */
+public class IntSortedSet {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] elements;
+    private int size;
+
+    /**
+     * Constructs an empty set.
+     */
+    public IntSortedSet() {
+        this.elements = new int[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of ints in the set.
+     *
+     * @return the number of ints in the set.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the int of a rank in the set, the smallest int being of rank 0.
+     *
+     * @param rank the rank, from 0 to size - 1.
+     * @return the int of the rank.
+     * @throws IndexOutOfBoundsException if the rank is out of range.
+     */
+    public int get(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Index " + rank + " out of bounds for length " + size);
+        }
+        return elements[rank];
+    }
+
+    /**
+     * Returns whether an int is in the set.
+     *
+     * @param element the int.
+     * @return true if the int is in the set, false otherwise.
+     */
+    public boolean contains(int element) {
+        return Arrays.binarySearch(elements, 0, size, element) >= 0;
+    }
+
+    /**
+     * Adds an int to the set.
+     *
+     * @param element the int to be added.
+     * @return true if the int was added, false if it was already in the set.
+     */
+    public boolean add(int element) {
+        int insertionPoint = size;
+        if (size > 0 && elements[size - 1] >= element) {
+            int index = Arrays.binarySearch(elements, 0, size, element);
+            if (index >= 0) {
+                return false;
+            }
+            insertionPoint = -index - 1;
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        System.arraycopy(elements, insertionPoint, elements, insertionPoint + 1, size - insertionPoint);
+        elements[insertionPoint] = element;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an int from the set.
+     *
+     * @param element the int to be removed.
+     * @return true if the int was removed, false if it was not in the set.
+     */
+    public boolean remove(int element) {
+        int index = Arrays.binarySearch(elements, 0, size, element);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return true;
+    }
+}
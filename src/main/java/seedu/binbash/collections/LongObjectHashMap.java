@@ -0,0 +1,126 @@
+package seedu.binbash.collections;
+
+/**
+ * A hash map from long keys to non-null values, with open addressing, so that keys are not boxed.
+ * Collisions are resolved by linear probing, and removals move the following entries back into the gap,
+ * so no deleted markers are left behind.
+ *
+ * @param <V> the type of the values.
+ */
+public class LongObjectHashMap<V> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    // A null value marks an empty slot
+    private Object[] values;
+    private int size;
+
+    /**
+     * Constructs an empty map.
+     */
+    public LongObjectHashMap() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the number of keys in the map.
+     *
+     * @return the number of keys in the map.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key the key.
+     * @return the value of the key, or null if the key is not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        return (V) values[findSlot(keys, values, key)];
+    }
+
+    /**
+     * Sets the value of a key, replacing any value it had.
+     *
+     * @param key the key.
+     * @param value the value, which must not be null.
+     */
+    public void put(long key, V value) {
+        assert value != null;
+        int slot = findSlot(keys, values, key);
+        if (values[slot] == null) {
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+        if (size * 2 > keys.length) {
+            resize();
+        }
+    }
+
+    /**
+     * Removes a key from the map.
+     *
+     * @param key the key.
+     * @return the value the key had, or null if the key was not in the map.
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = findSlot(keys, values, key);
+        Object removedValue = values[slot];
+        if (removedValue == null) {
+            return null;
+        }
+        values[slot] = null;
+        size--;
+        // Moves the following keys in the same run back into the gap, so that each can still be found
+        int mask = keys.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; values[next] != null; next = (next + 1) & mask) {
+            int home = getHomeSlot(keys[next], mask);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                values[next] = null;
+                gap = next;
+            }
+        }
+        return (V) removedValue;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = findSlot(keys, values, oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Returns the slot holding a key, or the empty slot it would be put in.
+     */
+    private static int findSlot(long[] keys, Object[] values, long key) {
+        int mask = keys.length - 1;
+        int slot = getHomeSlot(key, mask);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int getHomeSlot(long key, int mask) {
+        return (int) ((key * HASH_MULTIPLIER) >>> 40) & mask;
+    }
+}
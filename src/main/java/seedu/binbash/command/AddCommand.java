@@ -33,7 +33,7 @@ public class AddCommand extends Command {
         assert itemName != null && !itemName.trim().isEmpty();
         assert itemQuantity >= 0;
 
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Add Command... itemName: %s, itemDescription: %s, itemQuantity: %d, itemExpirationDate: %s"
                         + "itemSalePrice: %f, itemCostPrice: %f, itemThreshold: %d",
                 itemName,
@@ -43,7 +43,7 @@ public class AddCommand extends Command {
                 itemSalePrice,
                 itemCostPrice,
                 itemThreshold
-        ));
+        );
     }
 
     @Override
@@ -3,8 +3,6 @@ package seedu.binbash.command;
 import seedu.binbash.inventory.ItemList;
 import seedu.binbash.logger.BinBashLogger;
 
-import java.util.ArrayList;
-
 /**
  * Represents the execution of the delete command that will remove an item from the inventory.
  */
@@ -22,7 +20,7 @@ public class DeleteCommand extends Command {
         this.index = index;
         isIndex = true;
         commandLogger = new BinBashLogger(DeleteCommand.class.getName());
-        commandLogger.info(String.format("Creating Delete Command... ItemIndex: %d", index));
+        commandLogger.info("Creating Delete Command... ItemIndex: %d", index);
     }
 
     /**
@@ -34,7 +32,7 @@ public class DeleteCommand extends Command {
         this.keyword = keyword;
         isIndex = false;
         commandLogger = new BinBashLogger(DeleteCommand.class.getName());
-        commandLogger.info(String.format("Creating Delete Command... ItemName:", keyword));
+        commandLogger.info("Creating Delete Command... ItemName: %s", keyword);
     }
 
     /**
@@ -45,13 +43,12 @@ public class DeleteCommand extends Command {
      */
     public boolean execute(ItemList itemList) {
         if (isIndex) {
-            ArrayList<Integer> itemListSortedOrder = itemList.getSortedOrder();
-            if (index <= 0 || index > itemListSortedOrder.size()) {
+            if (index <= 0 || index > itemList.getSortedItemCount()) {
                 commandLogger.info("Index entered is out of bounds");
                 executionUiOutput = "Index entered is out of bounds!";
                 return true;
             }
-            assert index > 0 && index <= itemListSortedOrder.size();
+            assert index > 0 && index <= itemList.getSortedItemCount();
             commandLogger.info("Delete identifier is detected as an index");
             executionUiOutput = itemList.deleteItem(index);
         } else {
@@ -12,6 +12,9 @@ import java.util.List;
  */
 public class ListCommand extends Command {
     private SortOptionEnum sortOption;
+    private int numberOfResults = Integer.MAX_VALUE;
+    private int pageNumber = 1;
+    private int pageSize = ItemList.WHOLE_LIST;
 
     /**
      * Constructs a ListCommand object that will print the unsorted inventory.
@@ -29,10 +32,33 @@ public class ListCommand extends Command {
      */
     public ListCommand(SortOptionEnum sortOption) {
         commandLogger = new BinBashLogger(ListCommand.class.getName());
-        commandLogger.info("Creating List Command with sort type " + sortOption + "...");
+        commandLogger.info("Creating List Command with sort type %s...", sortOption);
         this.sortOption = sortOption;
     }
 
+    /**
+     * Sets the number of items at the start of the list to print. For a sorted list, only these items are
+     * picked out and sorted, rather than the whole inventory.
+     *
+     * @param numberOfResults the number of items to print.
+     */
+    public void setNumberOfResults(int numberOfResults) {
+        assert numberOfResults >= 1;
+        this.numberOfResults = numberOfResults;
+    }
+
+    /**
+     * Sets the page of the inventory to print, so that only the items on that page are formatted.
+     *
+     * @param pageNumber the number of the page to print, starting from 1.
+     * @param pageSize the number of items on each page.
+     */
+    public void setPage(int pageNumber, int pageSize) {
+        assert pageNumber >= 1 && pageSize >= 1;
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
+
     /**
      * Executes the list command to print the inventory in a certain order.
      *
@@ -44,23 +70,26 @@ public class ListCommand extends Command {
         switch(sortOption) {
         case EXPIRY:
             commandLogger.info("Executing list sort by expiry date...");
-            executionUiOutput = itemList.printListSortedByExpiryDate(itemArrayList);
+            executionUiOutput = itemList.printListSortedByExpiryDate(itemArrayList, numberOfResults, pageNumber,
+                    pageSize);
             break;
         case COST:
             commandLogger.info("Executing list sort by cost price...");
-            executionUiOutput = itemList.printListSortedByCostPrice(itemArrayList);
+            executionUiOutput = itemList.printListSortedByCostPrice(itemArrayList, numberOfResults, pageNumber,
+                    pageSize);
             break;
         case SALE:
             commandLogger.info("Executing list sort by sale price...");
-            executionUiOutput = itemList.printListSortedBySalePrice(itemArrayList);
+            executionUiOutput = itemList.printListSortedBySalePrice(itemArrayList, numberOfResults, pageNumber,
+                    pageSize);
             break;
         case PROFIT:
             commandLogger.info("Executing list sort by profits earned...");
-            executionUiOutput = itemList.printListSortedByProfit(itemArrayList);
+            executionUiOutput = itemList.printListSortedByProfit(itemArrayList, numberOfResults, pageNumber, pageSize);
             break;
         default:
             commandLogger.info("Executing list unsorted...");
-            executionUiOutput = itemList.printList(itemArrayList);
+            executionUiOutput = itemList.printList(itemArrayList, numberOfResults, pageNumber, pageSize);
         }
 
         return true;
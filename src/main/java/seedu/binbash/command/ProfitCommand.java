@@ -2,6 +2,7 @@ package seedu.binbash.command;
 
 import seedu.binbash.inventory.ItemList;
 import seedu.binbash.logger.BinBashLogger;
+import seedu.binbash.money.Money;
 
 /**
  * Represents the execution of a profit command that returns the total profit margin of the user.
@@ -13,20 +14,20 @@ public class ProfitCommand extends Command {
     }
 
     public boolean execute(ItemList itemList) {
-        double totalProfit = calculateTotalProfit(itemList);
-        executionUiOutput = String.format("Total profit: $%.2f%n", totalProfit);
+        long totalProfitInCents = calculateTotalProfitInCents(itemList);
+        executionUiOutput = "Total profit: $" + Money.format(totalProfitInCents) + System.lineSeparator();
         return true;
     }
 
     /**
-     * Calculates the total lifetime profit margin of the user.
+     * Calculates the total lifetime profit margin of the user exactly.
      *
      * @param itemList ItemList object that the command executes on.
-     * @return The total profit margin of the user.
+     * @return The total profit margin of the user, in cents.
      */
-    public double calculateTotalProfit(ItemList itemList) {
-        double totalRevenue = itemList.getTotalRevenue();
-        double totalCost = itemList.getTotalCost();
+    public long calculateTotalProfitInCents(ItemList itemList) {
+        long totalRevenue = itemList.getTotalRevenueInCents();
+        long totalCost = itemList.getTotalCostInCents();
         return totalRevenue - totalCost;
     }
 }
@@ -4,8 +4,6 @@ import seedu.binbash.exceptions.InvalidCommandException;
 import seedu.binbash.logger.BinBashLogger;
 import seedu.binbash.inventory.ItemList;
 
-import java.util.ArrayList;
-
 /**
  * Represents the execution of a restock command that will increase the quantity of an Item.
  */
@@ -27,11 +25,11 @@ public class RestockCommand extends Command{
         this.restockQuantity = restockQuantity;
 
         commandLogger = new BinBashLogger(RestockCommand.class.getName());
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Restock Command... itemName: %s, restockQuantity: %d",
                 itemName,
                 restockQuantity
-        ));
+        );
     }
 
     /**
@@ -45,11 +43,11 @@ public class RestockCommand extends Command{
         this.index = index;
         this.restockQuantity = restockQuantity;
 
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Restock Command... index: %d, restockQuantity: %d",
                 index,
                 restockQuantity
-        ));
+        );
     }
 
     /**
@@ -62,13 +60,12 @@ public class RestockCommand extends Command{
     @Override
     public boolean execute(ItemList itemList) {
         if (isIndex) {
-            ArrayList<Integer> itemListSortedOrder = itemList.getSortedOrder();
-            if (index <= 0 || index > itemListSortedOrder.size()) {
+            if (index <= 0 || index > itemList.getSortedItemCount()) {
                 commandLogger.info("Index entered is out of bounds");
                 executionUiOutput = "Index entered is out of bounds!";
                 return true;
             }
-            assert index > 0 && index <= itemListSortedOrder.size();
+            assert index > 0 && index <= itemList.getSortedItemCount();
             commandLogger.info("Restock identifier is detected as an index");
             try {
                 executionUiOutput = itemList.sellOrRestockItem(index, restockQuantity, COMMAND);
@@ -2,6 +2,7 @@ package seedu.binbash.command;
 
 import seedu.binbash.item.Item;
 import seedu.binbash.inventory.ItemList;
+import seedu.binbash.inventory.SearchAssistant;
 import seedu.binbash.logger.BinBashLogger;
 
 import java.util.ArrayList;
@@ -12,6 +13,7 @@ import java.time.LocalDate;
  */
 public class SearchCommand extends Command {
     private String nameField = "";
+    private int nameDistance = 0;
     private String descriptionField = "";
     private int[] quantityRange = {Integer.MIN_VALUE, Integer.MAX_VALUE};
     private double[] costPriceRange = {Double.MIN_VALUE, Double.MAX_VALUE};
@@ -34,6 +36,17 @@ public class SearchCommand extends Command {
         this.nameField = nameField;
     }
 
+    /**
+     * Sets the number of edits by which item names may differ from the name field.
+     * If set, the SearchAssistant will search for items with names near the name field instead of containing it,
+     * and rank them by how near they are.
+     *
+     * @param nameDistance The greatest number of edits of the names to search for, or 0 to search by substring.
+     */
+    public void setNameDistance(int nameDistance) {
+        this.nameDistance = nameDistance;
+    }
+
     /**
      * Sets the description field of the search command.
      * The SearchAssistant will search for items using the description provided in this field.
@@ -100,8 +113,13 @@ public class SearchCommand extends Command {
      * @return True if the number of found items is no more than numberOfResults, false otherwise.
      */
     public boolean execute(ItemList itemList) {
-        ArrayList<Item> foundItems = itemList.getSearchAssistant()
-            .searchByName(nameField)
+        SearchAssistant searchAssistant = itemList.getSearchAssistant();
+        if (nameDistance > 0) {
+            searchAssistant.searchByNameWithin(nameField, nameDistance);
+        } else {
+            searchAssistant.searchByName(nameField);
+        }
+        ArrayList<Item> foundItems = searchAssistant
             .searchByDescription(descriptionField)
             .searchByQuantityBetween(quantityRange[0], quantityRange[1])
             .searchByCostPriceBetween(costPriceRange[0], costPriceRange[1])
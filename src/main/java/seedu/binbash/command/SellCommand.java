@@ -4,8 +4,6 @@ import seedu.binbash.exceptions.InvalidCommandException;
 import seedu.binbash.logger.BinBashLogger;
 import seedu.binbash.inventory.ItemList;
 
-import java.util.ArrayList;
-
 /**
  * Represents the execution of a sell command that will decrease the quantity of an Item.
  */
@@ -27,11 +25,11 @@ public class SellCommand extends Command{
         this.sellQuantity = sellQuantity;
 
         commandLogger=  new BinBashLogger(SellCommand.class.getName());
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Sell Command... itemName: %s, sellQuantity: %d",
                 itemName,
                 sellQuantity
-        ));
+        );
     }
 
     /**
@@ -45,11 +43,11 @@ public class SellCommand extends Command{
         this.index = index;
         this.sellQuantity = sellQuantity;
 
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Sell Command... index: %d, sellQuantity: %d",
                 index,
                 sellQuantity
-        ));
+        );
     }
 
     /**
@@ -62,13 +60,12 @@ public class SellCommand extends Command{
     @Override
     public boolean execute(ItemList itemList) {
         if (isIndex) {
-            ArrayList<Integer> itemListSortedOrder = itemList.getSortedOrder();
-            if (index <= 0 || index > itemListSortedOrder.size()) {
+            if (index <= 0 || index > itemList.getSortedItemCount()) {
                 commandLogger.info("Index entered is out of bounds");
                 executionUiOutput = "Index entered is out of bounds!";
                 return true;
             }
-            assert index > 0 && index <= itemListSortedOrder.size();
+            assert index > 0 && index <= itemList.getSortedItemCount();
             commandLogger.info("Sell identifier is detected as an index");
             try {
                 executionUiOutput = itemList.sellOrRestockItem(index, sellQuantity, COMMAND);
@@ -27,10 +27,10 @@ public class UpdateCommand extends Command {
         this.itemName = itemName;
 
 
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Update Command... itemName: %s",
                 itemName
-        ));
+        );
     }
 
     /**
@@ -42,10 +42,10 @@ public class UpdateCommand extends Command {
         commandLogger = new BinBashLogger(UpdateCommand.class.getName());
         this.index = index;
 
-        commandLogger.info(String.format(
+        commandLogger.info(
                 "Creating Update Command... index: %d",
                 index
-        ));
+        );
     }
 
     /**
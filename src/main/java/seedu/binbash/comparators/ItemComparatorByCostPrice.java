@@ -22,9 +22,9 @@ public class ItemComparatorByCostPrice implements Comparator<Item> {
      * @return compare results.
      */
     public int compare(Item item1, Item item2) {
-        if (item1.getItemCostPrice() < item2.getItemCostPrice()) {
+        if (item1.getItemCostPriceInCents() < item2.getItemCostPriceInCents()) {
             return -1;
-        } else if (item1.getItemCostPrice() > item2.getItemCostPrice()) {
+        } else if (item1.getItemCostPriceInCents() > item2.getItemCostPriceInCents()) {
             return 1;
         }
 
@@ -19,17 +19,20 @@ public class ItemComparatorByProfit implements Comparator<Item> {
      *
      * @param item1 The first object to be compared.
      * @param item2 The second object to be compared.
-     * @return A negative integer if the first item's profit is greater than the second item's profit,
-     *         positive integer if the first item's profit is less than or equals to the second item's profit,
+     * @return A negative integer if the first item's profit is less than the second item's profit,
+     *         positive integer if the first item's profit is greater than the second item's profit,
+     *         and 0 if the profits are equal, so that a stable sort keeps such items in their original order.
      */
     public int compare(Item item1, Item item2) {
         retailItem1 = (RetailItem) item1 ;
         retailItem2 = (RetailItem) item2;
 
-        if (retailItem1.getItemProfit() < retailItem2.getItemProfit()) {
+        if (retailItem1.getItemProfitInCents() < retailItem2.getItemProfitInCents()) {
             return -1;
-        } else {
+        } else if (retailItem1.getItemProfitInCents() > retailItem2.getItemProfitInCents()) {
             return 1;
         }
+
+        return 0;
     }
 }
@@ -26,9 +26,9 @@ public class ItemComparatorBySalePrice implements Comparator<Item> {
         retailItem1 = (RetailItem) item1 ;
         retailItem2 = (RetailItem) item2;
 
-        if (retailItem1.getItemSalePrice() < retailItem2.getItemSalePrice()) {
+        if (retailItem1.getItemSalePriceInCents() < retailItem2.getItemSalePriceInCents()) {
             return -1;
-        } else if (retailItem1.getItemSalePrice() > retailItem2.getItemSalePrice()) {
+        } else if (retailItem1.getItemSalePriceInCents() > retailItem2.getItemSalePriceInCents()) {
             return 1;
         }
 
@@ -0,0 +1,8 @@
+package seedu.binbash.enums;
+
+/**
+ * Enumeration to denote the types of changes that can be made to an Item in the ItemList.
+ */
+public enum ChangeTypeEnum {
+    ADD, UPDATE, SELL, RESTOCK, DELETE
+}
@@ -0,0 +1,10 @@
+package seedu.binbash.enums;
+
+/**
+ * Enumeration to denote how eagerly Storage forces saved data to disk.
+ * NONE leaves it to the operating system, PER_COMMAND forces every save before returning,
+ * and PERIODIC forces journal appends at most once per interval so that they can share a single force.
+ */
+public enum DurabilityLevelEnum {
+    NONE, PER_COMMAND, PERIODIC
+}
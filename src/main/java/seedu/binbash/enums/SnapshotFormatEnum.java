@@ -0,0 +1,10 @@
+package seedu.binbash.enums;
+
+/**
+ * Enumeration to denote the format Storage writes its data file in.
+ * TEXT is the human-readable items.txt format, while BINARY is the columnar items.bin format,
+ * which is much faster to load on startup.
+ */
+public enum SnapshotFormatEnum {
+    TEXT, BINARY
+}
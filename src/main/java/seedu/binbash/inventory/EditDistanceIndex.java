@@ -0,0 +1,177 @@
+package seedu.binbash.inventory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A BK-tree of the lower case names of items, which finds the items whose name is within an edit distance of a
+ * given name without measuring the distance to every name.
+ * Each distinct name is a node, and the child of a node at distance d holds only names at distance d from it.
+ * By the triangle inequality, a name within k edits of the given name can only be below the children at distances
+ * d - k to d + k of a node at distance d from the given name, so the other children are never visited.
+ * Items are referred to by their item numbers. A node keeps its place in the tree after its last item is removed,
+ * as the names below it are placed by their distance to it.
+ */
+class EditDistanceIndex {
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private Node root;
+    private final HashMap<String, Node> nodesByName;
+    // The name each item was indexed under, by item number
+    private final ArrayList<String> lowerCaseNames;
+
+    /**
+     * Constructs an empty index.
+     */
+    EditDistanceIndex() {
+        this.nodesByName = new HashMap<>();
+        this.lowerCaseNames = new ArrayList<>();
+    }
+
+    /**
+     * Adds an item to the index.
+     *
+     * @param itemNumber the number of the item, which is not indexed yet.
+     * @param lowerCaseName the name of the item, in lower case.
+     */
+    void add(int itemNumber, String lowerCaseName) {
+        while (lowerCaseNames.size() <= itemNumber) {
+            lowerCaseNames.add(null);
+        }
+        lowerCaseNames.set(itemNumber, lowerCaseName);
+        Node node = nodesByName.get(lowerCaseName);
+        if (node == null) {
+            node = new Node(lowerCaseName);
+            nodesByName.put(lowerCaseName, node);
+            insert(node);
+        }
+        node.addItem(itemNumber);
+    }
+
+    private void insert(Node node) {
+        if (root == null) {
+            root = node;
+            return;
+        }
+        EditDistancePattern name = new EditDistancePattern(node.lowerCaseName);
+        Node parent = root;
+        while (true) {
+            int distance = name.getDistanceTo(parent.lowerCaseName);
+            Node child = parent.getChild(distance);
+            if (child == null) {
+                parent.setChild(distance, node);
+                return;
+            }
+            parent = child;
+        }
+    }
+
+    /**
+     * Removes an item from the index. Does nothing if the item is not indexed.
+     *
+     * @param itemNumber the number of the item.
+     */
+    void remove(int itemNumber) {
+        String lowerCaseName = itemNumber < lowerCaseNames.size() ? lowerCaseNames.get(itemNumber) : null;
+        if (lowerCaseName == null) {
+            return;
+        }
+        lowerCaseNames.set(itemNumber, null);
+        nodesByName.get(lowerCaseName).removeItem(itemNumber);
+    }
+
+    /**
+     * Indexes an item under its current name, after its name may have changed.
+     *
+     * @param itemNumber the number of the item.
+     * @param lowerCaseName the name of the item, in lower case.
+     */
+    void reindex(int itemNumber, String lowerCaseName) {
+        if (itemNumber < lowerCaseNames.size() && lowerCaseName.equals(lowerCaseNames.get(itemNumber))) {
+            return;
+        }
+        remove(itemNumber);
+        add(itemNumber, lowerCaseName);
+    }
+
+    /**
+     * Passes the numbers of the items whose name is within an edit distance of a name to a consumer,
+     * in no particular order.
+     *
+     * @param lowerCaseName the name in lower case, prepared for measuring edit distances to it.
+     * @param maxDistance the greatest edit distance of the names found.
+     * @param itemNumbers the consumer of the item numbers.
+     */
+    void forEachWithin(EditDistancePattern lowerCaseName, int maxDistance, IntConsumer itemNumbers) {
+        if (root == null) {
+            return;
+        }
+        ArrayDeque<Node> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.pop();
+            int distance = lowerCaseName.getDistanceTo(node.lowerCaseName);
+            if (distance <= maxDistance) {
+                node.forEachItem(itemNumbers);
+            }
+            int lastChild = Math.min(distance + maxDistance, node.children.length - 1);
+            for (int childDistance = Math.max(distance - maxDistance, 1); childDistance <= lastChild;
+                    childDistance++) {
+                if (node.children[childDistance] != null) {
+                    nodesToVisit.push(node.children[childDistance]);
+                }
+            }
+        }
+    }
+
+    /**
+     * A distinct name in the tree, along with the numbers of the items with that name.
+     */
+    private static class Node {
+        private final String lowerCaseName;
+        // Indexed by the distance of each child's name to this name
+        private Node[] children = NO_CHILDREN;
+        private int[] itemNumbers = new int[1];
+        private int size = 0;
+
+        Node(String lowerCaseName) {
+            this.lowerCaseName = lowerCaseName;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+
+        void addItem(int itemNumber) {
+            if (size == itemNumbers.length) {
+                itemNumbers = Arrays.copyOf(itemNumbers, size * 2);
+            }
+            itemNumbers[size++] = itemNumber;
+        }
+
+        void removeItem(int itemNumber) {
+            for (int i = 0; i < size; i++) {
+                if (itemNumbers[i] == itemNumber) {
+                    itemNumbers[i] = itemNumbers[--size];
+                    return;
+                }
+            }
+        }
+
+        void forEachItem(IntConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(itemNumbers[i]);
+            }
+        }
+    }
+}
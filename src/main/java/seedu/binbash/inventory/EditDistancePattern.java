@@ -0,0 +1,135 @@
+package seedu.binbash.inventory;
+
+import java.util.Arrays;
+
+/**
+ * A string prepared for measuring its edit distance (Levenshtein distance) to other strings: the least number of
+ * characters that must be inserted, deleted or substituted to turn one string into the other.
+ * Patterns of up to 64 characters are measured with Myers' bit-parallel algorithm, which handles a whole column of
+ * the distance table in a few operations on a long, so measuring takes time linear in the length of the other
+ * string. Longer patterns fall back to filling in the table row by row.
+ */
+class EditDistancePattern {
+    private static final int MAX_BIT_PARALLEL_LENGTH = Long.SIZE;
+    private static final int ASCII_SIZE = 128;
+
+    private final String pattern;
+    // Bit i of the mask of a character is set if the character is at position i of the pattern
+    private final long[] asciiMasks;
+    private final char[] otherChars;
+    private final long[] otherMasks;
+
+    /**
+     * Prepares a pattern for measuring edit distances to it.
+     *
+     * @param pattern the pattern.
+     */
+    EditDistancePattern(String pattern) {
+        this.pattern = pattern;
+        this.asciiMasks = new long[ASCII_SIZE];
+        char[] otherChars = new char[0];
+        long[] otherMasks = new long[0];
+        for (int i = 0; i < Math.min(pattern.length(), MAX_BIT_PARALLEL_LENGTH); i++) {
+            char c = pattern.charAt(i);
+            if (c < ASCII_SIZE) {
+                asciiMasks[c] |= 1L << i;
+                continue;
+            }
+            int index = indexOf(otherChars, c);
+            if (index < 0) {
+                index = otherChars.length;
+                otherChars = Arrays.copyOf(otherChars, index + 1);
+                otherMasks = Arrays.copyOf(otherMasks, index + 1);
+                otherChars[index] = c;
+            }
+            otherMasks[index] |= 1L << i;
+        }
+        this.otherChars = otherChars;
+        this.otherMasks = otherMasks;
+    }
+
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Returns the edit distance between the pattern and a text.
+     *
+     * @param text the text.
+     * @return the least number of characters inserted, deleted or substituted to turn the pattern into the text.
+     */
+    int getDistanceTo(String text) {
+        int patternLength = pattern.length();
+        if (patternLength == 0) {
+            return text.length();
+        }
+        if (patternLength > MAX_BIT_PARALLEL_LENGTH) {
+            return getDistanceByTable(pattern, text);
+        }
+
+        // Bits of the vertical and horizontal differences between adjacent cells of the current column, which are
+        // each +1 (positive), -1 (negative) or 0. Bits above the pattern length are never carried down into it
+        long lastRowBit = 1L << (patternLength - 1);
+        long positiveVertical = -1L;
+        long negativeVertical = 0;
+        int distance = patternLength;
+        for (int j = 0; j < text.length(); j++) {
+            long matches = getMask(text.charAt(j));
+            long diagonalZero = (((matches & positiveVertical) + positiveVertical) ^ positiveVertical) | matches;
+            long verticalZeroOrNegative = matches | negativeVertical;
+            long positiveHorizontal = negativeVertical | ~(diagonalZero | positiveVertical);
+            long negativeHorizontal = positiveVertical & diagonalZero;
+            if ((positiveHorizontal & lastRowBit) != 0) {
+                distance++;
+            } else if ((negativeHorizontal & lastRowBit) != 0) {
+                distance--;
+            }
+            // The top row of the table counts up from the empty pattern, so it always differs by +1
+            positiveHorizontal = (positiveHorizontal << 1) | 1;
+            negativeHorizontal = negativeHorizontal << 1;
+            positiveVertical = negativeHorizontal | ~(verticalZeroOrNegative | positiveHorizontal);
+            negativeVertical = positiveHorizontal & verticalZeroOrNegative;
+        }
+        return distance;
+    }
+
+    private long getMask(char c) {
+        if (c < ASCII_SIZE) {
+            return asciiMasks[c];
+        }
+        int index = indexOf(otherChars, c);
+        return index < 0 ? 0 : otherMasks[index];
+    }
+
+    private static int indexOf(char[] chars, char c) {
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the edit distance between two strings by filling in the distance table one row at a time.
+     */
+    static int getDistanceByTable(String first, String second) {
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] row = previousRow;
+            previousRow = currentRow;
+            currentRow = row;
+        }
+        return previousRow[second.length()];
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.enums.ChangeTypeEnum;
+import seedu.binbash.item.Item;
+
+/**
+ * Represents a single change made to an Item in the ItemList, which has yet to be persisted to storage.
+ * Only a reference to the changed Item is kept, so the Item is persisted in whatever state it is in
+ * at the time the change is saved.
+ */
+public class ItemChange {
+    private final ChangeTypeEnum changeType;
+    private final Item item;
+
+    public ItemChange(ChangeTypeEnum changeType, Item item) {
+        this.changeType = changeType;
+        this.item = item;
+    }
+
+    /**
+     * Returns the type of change made to the Item.
+     *
+     * @return the type of change.
+     */
+    public ChangeTypeEnum getChangeType() {
+        return changeType;
+    }
+
+    /**
+     * Returns the Item that was changed.
+     *
+     * @return the changed Item.
+     */
+    public Item getItem() {
+        return item;
+    }
+}
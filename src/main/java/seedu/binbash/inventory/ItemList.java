@@ -1,10 +1,10 @@
 package seedu.binbash.inventory;
 
+import seedu.binbash.collections.IntArrayList;
+import seedu.binbash.collections.IntObjectHashMap;
 import seedu.binbash.command.SellCommand;
-import seedu.binbash.comparators.ItemComparatorByCostPrice;
-import seedu.binbash.comparators.ItemComparatorByExpiryDate;
-import seedu.binbash.comparators.ItemComparatorByProfit;
-import seedu.binbash.comparators.ItemComparatorBySalePrice;
+import seedu.binbash.enums.ChangeTypeEnum;
+import seedu.binbash.enums.SortOptionEnum;
 import seedu.binbash.exceptions.InvalidCommandException;
 import seedu.binbash.item.Item;
 import seedu.binbash.item.OperationalItem;
@@ -13,85 +13,169 @@ import seedu.binbash.item.PerishableRetailItem;
 import seedu.binbash.item.RetailItem;
 import seedu.binbash.command.RestockCommand;
 import seedu.binbash.logger.BinBashLogger;
+import seedu.binbash.money.Money;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.ArrayList;
-
-import static java.util.stream.Collectors.toList;
+import java.util.HashMap;
 
 /**
  * Represents a list of items in the inventory. This class provides methods to manage and interact
- * with the inventory, such as adding, updating, and deleting items, as well as calculating financial
- * metrics like total cost and revenue.
+ * with the inventory, such as adding, updating, and deleting items, as well as keeping running totals of
+ * financial metrics like total cost and revenue.
  */
 public class ItemList {
+    /** The page size of a printed list that is not split into pages. */
+    public static final int WHOLE_LIST = 0;
     private static final BinBashLogger logger = new BinBashLogger(ItemList.class.getName());
-    private double totalRevenue;
-    private double totalCost;
+    // Running totals over every item in cents, kept up to date as items are added, deleted, sold, restocked and
+    // repriced. Being whole numbers, they never drift from a full recount
+    private long totalRevenueInCents;
+    private long totalCostInCents;
     private final ArrayList<Item> itemList;
-    private ArrayList<Integer> sortedOrder;
+    private final HashMap<String, Item> itemsByName;
+    // The items whose names have surrounding whitespace, such as names loaded from a hand-edited data file, by their
+    // trimmed names, so that they can still be deleted by name. Usually empty
+    private final HashMap<String, Item> itemsByTrimmedName;
+    private final IntObjectHashMap<Item> itemsById;
+    private final ArrayList<ItemChange> pendingChanges;
+    // The IDs of the items of the latest list printed, by their index in that list. The IDs of deleted items
+    // stay in place, so deleting an item does not change the index of any other
+    private final IntArrayList sortedItemIds;
+    private final SearchIndexes searchIndexes;
+    private final SortedViews sortedViews;
     private SearchAssistant searchAssistant;
 
     public ItemList(ArrayList<Item> itemList) {
         this.itemList = itemList;
-        this.sortedOrder = initializeSortedOrder(itemList);
-        this.totalRevenue = 0;
-        this.totalCost = 0;
+        this.itemsByName = initializeNameIndex(itemList);
+        this.itemsByTrimmedName = new HashMap<>();
+        this.itemsById = new IntObjectHashMap<>();
+        this.pendingChanges = new ArrayList<>();
+        this.sortedItemIds = new IntArrayList(itemList.size());
+        for (Item item : itemList) {
+            itemsById.put(item.getItemId(), item);
+            addToTrimmedNameIndex(item);
+        }
+        updateSortedOrder(itemList);
+        this.searchIndexes = initializeSearchIndexes(itemList);
+        this.sortedViews = new SortedViews();
+        this.totalRevenueInCents = computeTotalRevenueInCents();
+        this.totalCostInCents = computeTotalCostInCents();
         searchAssistant = new SearchAssistant();
     }
 
     /**
-     * Calculates and returns the total revenue generated from all retail items in the inventory.
+     * Returns the total revenue generated from all retail items in the inventory, in O(1) time.
      *
-     * @return the total revenue.
+     * @return the total revenue, in dollars.
      */
     public double getTotalRevenue() {
-        double totalRevenue = 0;
+        return Money.toDollars(totalRevenueInCents);
+    }
+
+    /**
+     * Returns the total revenue generated from all retail items in the inventory exactly, in O(1) time.
+     *
+     * @return the total revenue, in cents.
+     */
+    public long getTotalRevenueInCents() {
+        return totalRevenueInCents;
+    }
+
+    /**
+     * Returns the total cost incurred from purchasing all items in the inventory, in O(1) time.
+     *
+     * @return the total cost, in dollars.
+     */
+    public double getTotalCost() {
+        return Money.toDollars(totalCostInCents);
+    }
+
+    /**
+     * Returns the total cost incurred from purchasing all items in the inventory exactly, in O(1) time.
+     *
+     * @return the total cost, in cents.
+     */
+    public long getTotalCostInCents() {
+        return totalCostInCents;
+    }
+
+    /**
+     * Calculates the total revenue generated from all retail items in the inventory from every item, which the
+     * running total can be reconciled against.
+     *
+     * @return the total revenue, in cents.
+     */
+    long computeTotalRevenueInCents() {
+        long totalRevenue = 0;
 
         for (Item item: itemList) {
-            if (item instanceof RetailItem) {
-                RetailItem retailItem = (RetailItem) item;
-                totalRevenue += (retailItem.getTotalUnitsSold() * retailItem.getItemSalePrice());
-            }
+            totalRevenue += getItemRevenueInCents(item);
         }
 
         return totalRevenue;
     }
 
     /**
-     * Calculates and returns the total cost incurred from purchasing all items in the inventory.
+     * Calculates the total cost incurred from purchasing all items in the inventory from every item, which the
+     * running total can be reconciled against.
      *
-     * @return the total cost.
+     * @return the total cost, in cents.
      */
-    public double getTotalCost() {
-        double totalCost = 0;
+    long computeTotalCostInCents() {
+        long totalCost = 0;
 
         for (Item item: itemList) {
-            totalCost += (item.getTotalUnitsPurchased() * item.getItemCostPrice());
+            totalCost += getItemCostInCents(item);
         }
 
         return totalCost;
     }
 
+    private static long getItemRevenueInCents(Item item) {
+        if (!(item instanceof RetailItem)) {
+            return 0;
+        }
+        RetailItem retailItem = (RetailItem) item;
+        return retailItem.getTotalUnitsSold() * retailItem.getItemSalePriceInCents();
+    }
+
+    private static long getItemCostInCents(Item item) {
+        return item.getTotalUnitsPurchased() * item.getItemCostPriceInCents();
+    }
+
+    /**
+     * Adds the revenue and cost of an item to the running totals, after it is added or the fields they depend on
+     * have changed.
+     */
+    private void addToTotals(Item item) {
+        totalRevenueInCents += getItemRevenueInCents(item);
+        totalCostInCents += getItemCostInCents(item);
+    }
+
+    /**
+     * Takes the revenue and cost of an item out of the running totals, before it is deleted or the fields they
+     * depend on change.
+     */
+    private void removeFromTotals(Item item) {
+        totalRevenueInCents -= getItemRevenueInCents(item);
+        totalCostInCents -= getItemCostInCents(item);
+    }
+
     /**
      * Returns a formatted string displaying the total cost, total revenue, and net profit.
      *
      * @return the profit margin metrics as a string.
      */
     public String getProfitMargin() {
-        double totalCost = getTotalCost();
-        double totalRevenue = getTotalRevenue();
-        double netProfit = totalRevenue - totalCost;
-
-        String output =
-                String.format("Here are your metrics: " + System.lineSeparator()
-                        + "\tTotal Cost: %.2f" + System.lineSeparator()
-                        + "\tTotal Revenue: %.2f" + System.lineSeparator()
-                        + "\tNet Profit: %.2f" + System.lineSeparator(),
-                        totalCost,
-                        totalRevenue,
-                        netProfit);
+        long netProfitInCents = totalRevenueInCents - totalCostInCents;
+
+        String output = "Here are your metrics: " + System.lineSeparator()
+                + "\tTotal Cost: " + Money.format(totalCostInCents) + System.lineSeparator()
+                + "\tTotal Revenue: " + Money.format(totalRevenueInCents) + System.lineSeparator()
+                + "\tNet Profit: " + Money.format(netProfitInCents) + System.lineSeparator();
         return output;
     }
 
@@ -101,7 +185,7 @@ public class ItemList {
      * @return The SearchAssistant object bound to this ItemList instance.
      */
     public SearchAssistant getSearchAssistant() {
-        searchAssistant.setFoundItems(itemList);
+        searchAssistant.setFoundItems(itemList, searchIndexes);
         return searchAssistant;
     }
 
@@ -114,6 +198,18 @@ public class ItemList {
         return itemList;
     }
 
+    /**
+     * Returns the changes made to the ItemList since this method was last called, in the order they were made.
+     * The returned changes are no longer tracked by the ItemList.
+     *
+     * @return A List of the changes yet to be persisted.
+     */
+    public List<ItemChange> drainPendingChanges() {
+        ArrayList<ItemChange> drainedChanges = new ArrayList<>(pendingChanges);
+        pendingChanges.clear();
+        return drainedChanges;
+    }
+
     /**
      * Returns the number of Items in the ItemList.
      *
@@ -129,16 +225,22 @@ public class ItemList {
      * @return the number of Items in the sorted ItemList.
      */
     public int getSortedItemCount() {
-        return sortedOrder.size();
+        return sortedItemIds.size();
     }
 
     /**
-     * Returns the ArrayList containing the sorted indexes of items in the ItemList.
+     * Returns the Item at an index of the latest list printed.
      *
-     * @return the ArrayList containing the sorted indexes of items in the ItemList.
+     * @param index The index of the Item in the latest list printed, starting from 1.
+     * @return The Item at the given index.
+     * @throws InvalidCommandException If the Item at the given index has been deleted.
      */
-    public ArrayList<Integer> getSortedOrder() {
-        return sortedOrder;
+    private Item getSortedItem(int index) throws InvalidCommandException {
+        Item item = itemsById.get(sortedItemIds.get(index - 1));
+        if (item == null) {
+            throw new InvalidCommandException("Item has already been deleted!");
+        }
+        return item;
     }
 
     /**
@@ -159,10 +261,7 @@ public class ItemList {
                           int itemQuantity, LocalDate itemExpirationDate, double itemSalePrice,
                           double itemCostPrice, int itemThreshold) {
         // Checking for existence of an item with the same name
-        ArrayList<Item> searchOutput = getSearchAssistant()
-                .searchByExactName(itemName)
-                .getFoundItems();
-        if (!searchOutput.isEmpty()) {
+        if (itemsByName.containsKey(itemName)) {
             return String.format("An item with the name '%s' already exists in the inventory. " +
                     "Please use a different name.", itemName);
         }
@@ -187,10 +286,18 @@ public class ItemList {
         }
 
         int beforeSize = itemList.size();
-        sortedOrder.add(beforeSize);
+        int beforeSortedSize = sortedItemIds.size();
+        sortedItemIds.add(item.getItemId());
         itemList.add(item);
+        itemsByName.put(itemName, item);
+        addToTrimmedNameIndex(item);
+        itemsById.put(item.getItemId(), item);
+        searchIndexes.add(item);
+        sortedViews.invalidate(item, SortOptionEnum.values());
+        addToTotals(item);
+        pendingChanges.add(new ItemChange(ChangeTypeEnum.ADD, item));
         assert itemList.size() == (beforeSize + 1);
-        assert sortedOrder.size() == (beforeSize + 1);
+        assert sortedItemIds.size() == (beforeSortedSize + 1);
 
         String output = "Noted! I have added the following item into your inventory:" + System.lineSeparator()
                 + System.lineSeparator() + item;
@@ -215,6 +322,7 @@ public class ItemList {
                                   int itemThreshold) throws InvalidCommandException {
 
         Item itemToUpdate = findItemByName(itemName);
+        pendingChanges.add(new ItemChange(ChangeTypeEnum.UPDATE, itemToUpdate));
         updateItemData(itemToUpdate, itemDescription, itemQuantity,
                 itemExpirationDate, itemSalePrice, itemCostPrice,
                 itemThreshold);
@@ -240,7 +348,8 @@ public class ItemList {
                                   LocalDate itemExpirationDate, double itemSalePrice, double itemCostPrice,
                                   int itemThreshold) throws InvalidCommandException {
 
-        Item item = itemList.get(sortedOrder.get(index - 1));
+        Item item = getSortedItem(index);
+        pendingChanges.add(new ItemChange(ChangeTypeEnum.UPDATE, item));
 
         updateItemData(item, itemDescription, itemQuantity,
                 itemExpirationDate, itemSalePrice, itemCostPrice,
@@ -270,6 +379,7 @@ public class ItemList {
         if (itemDescription != null) {
             logger.info("Attempting to update item description");
             item.setItemDescription(itemDescription);
+            searchIndexes.reindex(item);
         }
     }
 
@@ -277,6 +387,8 @@ public class ItemList {
         if (itemQuantity != Integer.MIN_VALUE) {
             logger.info("Attempting to update item quantity");
             item.setItemQuantity(itemQuantity);
+            searchIndexes.reindex(item);
+            sortedViews.invalidate(item, SortOptionEnum.EXPIRY, SortOptionEnum.COST, SortOptionEnum.SALE);
         }
     }
 
@@ -285,8 +397,12 @@ public class ItemList {
             logger.info("Attempting to update item expiration date");
             if (item instanceof PerishableOperationalItem) {
                 ((PerishableOperationalItem) item).setItemExpirationDate(itemExpirationDate);
+                searchIndexes.reindex(item);
+                sortedViews.invalidate(item, SortOptionEnum.EXPIRY);
             } else if (item instanceof PerishableRetailItem) {
                 ((PerishableRetailItem) item).setItemExpirationDate(itemExpirationDate);
+                searchIndexes.reindex(item);
+                sortedViews.invalidate(item, SortOptionEnum.EXPIRY);
             } else {
                 throw new InvalidCommandException("This item is not a perishable and has no expiry date.");
             }
@@ -297,7 +413,11 @@ public class ItemList {
         if (itemSalePrice != Double.MIN_VALUE) {
             logger.info("Attempting to update item sale price");
             if (item instanceof RetailItem) {
+                removeFromTotals(item);
                 ((RetailItem) item).setItemSalePrice(itemSalePrice);
+                addToTotals(item);
+                searchIndexes.reindex(item);
+                sortedViews.invalidate(item, SortOptionEnum.SALE, SortOptionEnum.PROFIT);
             } else {
                 throw new InvalidCommandException("This item is not a retail item and has no sale price");
             }
@@ -307,7 +427,11 @@ public class ItemList {
     private void updateItemCostPrice(Item item, double itemCostPrice) {
         if (itemCostPrice != Double.MIN_VALUE) {
             logger.info("Attempting to update item cost price");
+            removeFromTotals(item);
             item.setItemCostPrice(itemCostPrice);
+            addToTotals(item);
+            searchIndexes.reindex(item);
+            sortedViews.invalidate(item, SortOptionEnum.COST, SortOptionEnum.PROFIT);
         }
     }
 
@@ -319,7 +443,7 @@ public class ItemList {
     }
 
     /**
-     * Finds an item in the item list by its name using the SearchAssistant class.
+     * Finds an item in the item list by its name using the name index of the ItemList.
      * This method conducts a case-sensitive search for the exact name of the item.
      *
      * @param itemName The name of the Item to be found.
@@ -327,20 +451,18 @@ public class ItemList {
      * @throws InvalidCommandException If an Item with the provided name does not exist in the ItemList.
      */
     public Item findItemByName(String itemName) throws InvalidCommandException {
-        logger.info(String.format("Searching for item with name %s", itemName));
-        ArrayList<Item> searchOutput = getSearchAssistant()
-                .searchByExactName(itemName)
-                .getFoundItems(1);
+        logger.info("Searching for item with name %s", itemName);
+        Item foundItem = itemsByName.get(itemName);
 
-        if (searchOutput.isEmpty()) {
-            logger.info(String.format("No item with name '%s' found", itemName));
+        if (foundItem == null) {
+            logger.info("No item with name '%s' found", itemName);
             throw new InvalidCommandException(
                     String.format("Item with name '%s' not found! ", itemName)
             + "Consider using the search or the list command to find the exact name of your item!");
         }
 
-        logger.info(String.format("Item with name '%s' found!", itemName));
-        return searchOutput.get(0);
+        logger.info("Item with name '%s' found!", itemName);
+        return foundItem;
     }
 
     private String sellOrRestock(Item item, int quantityToUpdateBy, String command)
@@ -349,19 +471,28 @@ public class ItemList {
         int currentQuantity = item.getItemQuantity();
         switch (command) {
         case RestockCommand.COMMAND:
+            pendingChanges.add(new ItemChange(ChangeTypeEnum.RESTOCK, item));
             currentQuantity += quantityToUpdateBy;
             item.setItemQuantity(currentQuantity);
+            searchIndexes.reindex(item);
 
             int totalUnitsPurchased = item.getTotalUnitsPurchased();
+            removeFromTotals(item);
             item.setTotalUnitsPurchased(totalUnitsPurchased + quantityToUpdateBy);
+            addToTotals(item);
+            sortedViews.invalidate(item, SortOptionEnum.EXPIRY, SortOptionEnum.COST, SortOptionEnum.SALE,
+                    SortOptionEnum.PROFIT);
 
             break;
         case SellCommand.COMMAND:
             if (quantityToUpdateBy > currentQuantity) {
                 throw new InvalidCommandException("You do not have enough to sell the stated quantity.");
             }
+            pendingChanges.add(new ItemChange(ChangeTypeEnum.SELL, item));
             currentQuantity -= quantityToUpdateBy;
             item.setItemQuantity(currentQuantity);
+            searchIndexes.reindex(item);
+            sortedViews.invalidate(item, SortOptionEnum.EXPIRY, SortOptionEnum.COST, SortOptionEnum.SALE);
 
             if (!(item instanceof RetailItem)) {
                 throw new InvalidCommandException("Operational items cannot be sold.");
@@ -375,7 +506,10 @@ public class ItemList {
             }
 
             int totalUnitsSold = retailItem.getTotalUnitsSold();
+            removeFromTotals(retailItem);
             retailItem.setTotalUnitsSold(totalUnitsSold + quantityToUpdateBy);
+            addToTotals(retailItem);
+            sortedViews.invalidate(item, SortOptionEnum.PROFIT);
             break;
         default:
             throw new InvalidCommandException("Invalid argument!");
@@ -411,10 +545,11 @@ public class ItemList {
      * @param itemQuantity The quantity to be sold/restocked.
      * @param command A string representing the type of operation to be done.
      * @return A String showing the result of the sell/restock operation.
-     * @throws InvalidCommandException If provided item quantity is invalid (out of bounds).
+     * @throws InvalidCommandException If provided item quantity is invalid (out of bounds), or the item has
+     *     been deleted.
      */
     public String sellOrRestockItem(int index, int itemQuantity, String command) throws InvalidCommandException {
-        Item item = itemList.get(sortedOrder.get(index - 1));
+        Item item = getSortedItem(index);
         return sellOrRestock(item, itemQuantity, command);
     }
 
@@ -439,24 +574,13 @@ public class ItemList {
      */
     public String deleteItem(int index) {
         logger.info("Attempting to delete an item");
-        int beforeSize = itemList.size();
-        int temp;
 
-        if (sortedOrder.get(index - 1) <= -1) {
+        Item itemToDelete = itemsById.get(sortedItemIds.get(index - 1));
+        if (itemToDelete == null) {
             return "Item has already been deleted!";
         }
 
-        Item tempItem = itemList.remove((sortedOrder.get(index - 1).intValue()));
-        assert itemList.size() == (beforeSize - 1);
-
-        temp = sortedOrder.get(index - 1);
-        sortedOrder.set(index - 1, -1);
-
-        for (int i = 0; i < sortedOrder.size(); i++){
-            if (sortedOrder.get(i) > temp) {
-                sortedOrder.set(i, sortedOrder.get(i) - 1);
-            }
-        }
+        Item tempItem = removeItem(itemToDelete);
 
         String output = "Got it! I've removed the following item:" + System.lineSeparator()
                 + System.lineSeparator() + tempItem;
@@ -466,35 +590,54 @@ public class ItemList {
     }
 
     /**
-     * Deletes an item from the inventory by identifying the item using its name.
+     * Deletes an item from the inventory by identifying the item using its name, ignoring any whitespace around
+     * the stored name. Any item in the inventory can be deleted, not only the items of the latest list printed.
      *
      * @param keyword the name of the item to be deleted.
      * @return the message indicating which item was deleted.
      */
     public String deleteItem(String keyword) {
-        int targetIndex = -1;
-        Item currentItem;
-
-        for (int i = 0; i < sortedOrder.size(); i ++) {
-            if (sortedOrder.get(i) == -1) {
-                continue;
-            }
+        Item itemToDelete = findItemByTrimmedName(keyword);
 
-            currentItem = itemList.get(sortedOrder.get(i));
-            if (currentItem.getItemName().trim().equals(keyword)) {
-                logger.info("item found at index " + i);
-                targetIndex = i + 1;
-                break;
-            }
-        }
-
-        if (targetIndex == -1) {
+        if (itemToDelete == null) {
             logger.info("No matching item was found, no item was deleted.");
             String output = "Item not found! Nothing was deleted!";
             return output;
         }
 
-        return deleteItem(targetIndex);
+        logger.info("Attempting to delete an item");
+        Item tempItem = removeItem(itemToDelete);
+
+        String output = "Got it! I've removed the following item:" + System.lineSeparator()
+                + System.lineSeparator() + tempItem;
+        logger.info("An item has been deleted");
+
+        return output;
+    }
+
+    /**
+     * Removes an Item from the inner List, keeping the name index and search indexes consistent with the removal.
+     * The Item's ID stays in the latest list printed, where it is recognised as deleted as it no longer maps to an
+     * Item, so the indexes of the other items in that list are unchanged.
+     *
+     * @param item the Item to be removed.
+     * @return the removed Item.
+     */
+    private Item removeItem(Item item) {
+        int beforeSize = itemList.size();
+
+        Item removedItem = itemList.remove(searchIndexes.getListPosition(item));
+        assert removedItem == item;
+        itemsByName.remove(removedItem.getItemName(), removedItem);
+        itemsByTrimmedName.remove(removedItem.getItemName().trim(), removedItem);
+        itemsById.remove(removedItem.getItemId());
+        searchIndexes.remove(removedItem);
+        sortedViews.invalidate(removedItem, SortOptionEnum.values());
+        removeFromTotals(removedItem);
+        pendingChanges.add(new ItemChange(ChangeTypeEnum.DELETE, removedItem));
+        assert itemList.size() == (beforeSize - 1);
+
+        return removedItem;
     }
 
     /**
@@ -504,17 +647,23 @@ public class ItemList {
      * @return A concatenated string of all item representations in the list, each on a new line.
      */
     public String printList(List<Item> itemList) {
-        int index = 1;
-        String output = "";
-
-        sortedOrder.clear();
-        for (Item item: itemList) {
-            sortedOrder.add(index - 1);
-            output += index + ". " + item.toString() + System.lineSeparator() + System.lineSeparator();
-            index++;
-        }
+        return printList(itemList, Integer.MAX_VALUE, 1, WHOLE_LIST);
+    }
 
-        return output;
+    /**
+     * Returns a string representation of a page of the items in the list. Items are numbered by their index in the
+     * whole list, which can be used to refer to them in other commands.
+     *
+     * @param itemList the items to print.
+     * @param numberOfResults the number of items at the start of the list to print, at least 1.
+     * @param pageNumber the number of the page of these items to print, starting from 1.
+     * @param pageSize the number of items on each page, or WHOLE_LIST to print every item without a page footer.
+     * @return A concatenated string of the item representations on the page, each on a new line.
+     */
+    public String printList(List<Item> itemList, int numberOfResults, int pageNumber, int pageSize) {
+        List<Item> firstItems = itemList.subList(0, Math.min(numberOfResults, itemList.size()));
+        updateSortedOrder(firstItems);
+        return renderPage(firstItems, pageNumber, pageSize, false);
     }
 
     /**
@@ -525,26 +674,27 @@ public class ItemList {
      * @return A concatenated string of all item representations in the sorted list, each on a new line.
      */
     public String printListSortedByCostPrice(List<Item> itemList) {
-        int index = 1;
-        String output = "";
+        return printListSortedByCostPrice(itemList, Integer.MAX_VALUE, 1, WHOLE_LIST);
+    }
 
-        logger.info("Sorting inventory by expiry date...");
-        ArrayList<Item> sortedList = (ArrayList<Item>) itemList.stream()
-                .sorted(new ItemComparatorByCostPrice())
-                .collect(toList());
+    /**
+     * Returns a string representation of a page of the items in the list sorted by item cost price.
+     *
+     * @param itemList the inventory to print.
+     * @param numberOfResults the number of items at the start of the list to print, at least 1.
+     * @param pageNumber the number of the page of these items to print, starting from 1.
+     * @param pageSize the number of items on each page, or WHOLE_LIST to print every item without a page footer.
+     * @return A concatenated string of the item representations on the page, each on a new line.
+     */
+    public String printListSortedByCostPrice(List<Item> itemList, int numberOfResults, int pageNumber, int pageSize) {
+        logger.info("Sorting inventory by cost price...");
+        List<Item> sortedList = getSortedView(SortOptionEnum.COST, itemList, numberOfResults);
 
         logger.info("Updating sortedOrder...");
-        updateSortedOrder(itemList, sortedList);
-
-        assert sortedOrder.size() == sortedList.size();
+        updateSortedOrder(sortedList);
 
         logger.info("Printing sorted list...");
-        for (Item item: sortedList) {
-            output += index + ". " + item.toString() + System.lineSeparator() + System.lineSeparator();
-            index++;
-        }
-
-        return output;
+        return renderPage(sortedList, pageNumber, pageSize, false);
     }
 
     /**
@@ -555,27 +705,27 @@ public class ItemList {
      * @return A concatenated string of all item representations in the sorted list, each on a new line.
      */
     public String printListSortedByExpiryDate(List<Item> itemList) {
-        int index = 1;
-        String output = "";
+        return printListSortedByExpiryDate(itemList, Integer.MAX_VALUE, 1, WHOLE_LIST);
+    }
 
+    /**
+     * Returns a string representation of a page of the perishable items in the list sorted by item expiry date.
+     *
+     * @param itemList the inventory to print.
+     * @param numberOfResults the number of items at the start of the list to print, at least 1.
+     * @param pageNumber the number of the page of these items to print, starting from 1.
+     * @param pageSize the number of items on each page, or WHOLE_LIST to print every item without a page footer.
+     * @return A concatenated string of the item representations on the page, each on a new line.
+     */
+    public String printListSortedByExpiryDate(List<Item> itemList, int numberOfResults, int pageNumber, int pageSize) {
         logger.info("Sorting inventory by expiry date...");
-        ArrayList<Item> sortedList = (ArrayList<Item>) itemList.stream()
-                .filter((t) -> t instanceof PerishableOperationalItem || t instanceof PerishableRetailItem)
-                .sorted(new ItemComparatorByExpiryDate())
-                .collect(toList());
+        List<Item> sortedList = getSortedView(SortOptionEnum.EXPIRY, itemList, numberOfResults);
 
         logger.info("Updating sortedOrder...");
-        updateSortedOrder(itemList, sortedList);
-
-        assert sortedOrder.size() == sortedList.size();
+        updateSortedOrder(sortedList);
 
         logger.info("Printing sorted list...");
-        for (Item item: sortedList) {
-            output += index + ". " + item.toString() + System.lineSeparator() + System.lineSeparator();
-            index++;
-        }
-
-        return output;
+        return renderPage(sortedList, pageNumber, pageSize, false);
     }
 
     /**
@@ -586,27 +736,27 @@ public class ItemList {
      * @return A concatenated string of all item representations in the sorted list, each on a new line.
      */
     public String printListSortedBySalePrice(List<Item> itemList) {
-        int index = 1;
-        String output = "";
+        return printListSortedBySalePrice(itemList, Integer.MAX_VALUE, 1, WHOLE_LIST);
+    }
 
+    /**
+     * Returns a string representation of a page of the retail items in the list sorted by item sale price.
+     *
+     * @param itemList the inventory to print.
+     * @param numberOfResults the number of items at the start of the list to print, at least 1.
+     * @param pageNumber the number of the page of these items to print, starting from 1.
+     * @param pageSize the number of items on each page, or WHOLE_LIST to print every item without a page footer.
+     * @return A concatenated string of the item representations on the page, each on a new line.
+     */
+    public String printListSortedBySalePrice(List<Item> itemList, int numberOfResults, int pageNumber, int pageSize) {
         logger.info("Sorting inventory by sale price...");
-        ArrayList<Item> sortedList = (ArrayList<Item>) itemList.stream()
-                .filter((t) -> t instanceof RetailItem)
-                .sorted(new ItemComparatorBySalePrice())
-                .collect(toList());
+        List<Item> sortedList = getSortedView(SortOptionEnum.SALE, itemList, numberOfResults);
 
         logger.info("Updating sortedOrder...");
-        updateSortedOrder(itemList, sortedList);
-
-        assert sortedOrder.size() == sortedList.size();
+        updateSortedOrder(sortedList);
 
         logger.info("Printing sorted list...");
-        for (Item item: sortedList) {
-            output += index + ". " + item.toString() + System.lineSeparator() + System.lineSeparator();
-            index++;
-        }
-
-        return output;
+        return renderPage(sortedList, pageNumber, pageSize, false);
     }
 
     /**
@@ -620,56 +770,139 @@ public class ItemList {
      *         along with their respective profits formatted to two decimal places.
      */
     public String printListSortedByProfit(List<Item> itemList) {
-        int index = 1;
-        String output = "";
+        return printListSortedByProfit(itemList, Integer.MAX_VALUE, 1, WHOLE_LIST);
+    }
 
+    /**
+     * Returns a string representation of a page of the retail items in the list sorted by their profits, with the
+     * profit of each item displayed alongside it.
+     *
+     * @param itemList the inventory to print, which should contain retail items.
+     * @param numberOfResults the number of items at the start of the list to print, at least 1.
+     * @param pageNumber the number of the page of these items to print, starting from 1.
+     * @param pageSize the number of items on each page, or WHOLE_LIST to print every item without a page footer.
+     * @return A concatenated string of the retail item representations on the page, each on a new line,
+     *         along with their respective profits formatted to two decimal places.
+     */
+    public String printListSortedByProfit(List<Item> itemList, int numberOfResults, int pageNumber, int pageSize) {
         logger.info("Sorting inventory by profits earned for each item...");
-        ArrayList<Item> sortedList = (ArrayList<Item>) itemList.stream()
-                .filter((t) -> t instanceof RetailItem)
-                .sorted(new ItemComparatorByProfit())
-                .collect(toList());
+        List<Item> sortedList = getSortedView(SortOptionEnum.PROFIT, itemList, numberOfResults);
 
         logger.info("Updating sortedOrder...");
-        updateSortedOrder(itemList, sortedList);
-
-        assert sortedOrder.size() == sortedList.size();
+        updateSortedOrder(sortedList);
 
         logger.info("Printing sorted list...");
-        for (Item item: sortedList) {
-            RetailItem retailItem = (RetailItem) item;
-            output += index + ". " + retailItem.toString() + System.lineSeparator()
-                    + String.format("\tProfit: %.2f", retailItem.getItemProfit())
-                    + System.lineSeparator() + System.lineSeparator();
-            index++;
+        return renderPage(sortedList, pageNumber, pageSize, true);
+    }
+
+    /**
+     * Returns a string representation of a page of a printed list, followed by a footer saying which page it is
+     * if the list is paged.
+     */
+    private String renderPage(List<Item> itemList, int pageNumber, int pageSize, boolean isShowingProfit) {
+        assert pageNumber >= 1 && pageSize >= 0;
+        if (pageSize == WHOLE_LIST) {
+            return renderItems(itemList, 0, itemList.size(), isShowingProfit);
         }
 
-        return output;
+        int itemCount = itemList.size();
+        int pageCount = Math.max(itemCount / pageSize + (itemCount % pageSize == 0 ? 0 : 1), 1);
+        if (pageNumber > pageCount) {
+            return String.format("Page %d is out of range! There %s only %s.",
+                    pageNumber, pageCount == 1 ? "is" : "are", pageCount == 1 ? "1 page" : pageCount + " pages");
+        }
+        int fromIndex = (pageNumber - 1) * pageSize;
+        int toIndex = (int) Math.min(itemCount, (long) fromIndex + pageSize);
+        String pageFooter = itemCount == 0
+                ? String.format("Page %d of %d, showing no items.", pageNumber, pageCount)
+                : String.format("Page %d of %d, showing items %d to %d of %d.",
+                        pageNumber, pageCount, fromIndex + 1, toIndex, itemCount);
+        return renderItems(itemList, fromIndex, toIndex, isShowingProfit) + pageFooter;
+    }
+
+    /**
+     * Returns a string representation of the items of a printed list between two indexes, numbered by their index
+     * in the whole list. The items are appended to a single StringBuilder, so rendering takes time linear in the
+     * length of the output.
+     */
+    private String renderItems(List<Item> itemList, int fromIndex, int toIndex, boolean isShowingProfit) {
+        StringBuilder output = new StringBuilder();
+        for (int index = fromIndex; index < toIndex; index++) {
+            Item item = itemList.get(index);
+            output.append(index + 1).append(". ").append(item).append(System.lineSeparator());
+            if (isShowingProfit) {
+                Money.appendTo(output.append("\tProfit: "), ((RetailItem) item).getItemProfitInCents())
+                        .append(System.lineSeparator());
+            }
+            output.append(System.lineSeparator());
+        }
+        return output.toString();
     }
 
     /**
-     * Updates the sortedOrder ArrayList to enable commands that uses item index to reference the
+     * Returns the first items of a list in the order of a sort option, up to a limit. The sorted view of the
+     * inventory is reused for as long as it is unchanged, while any other list is sorted afresh. If few items are
+     * wanted from a view that is not cached, they are picked out without sorting every item.
+     *
+     * @param sortOption the sort option, which is not NONE.
+     * @param itemList the items to be sorted.
+     * @param numberOfResults the maximum number of items to return, at least 1.
+     * @return the first items in sorted order, which must not be modified.
+     */
+    private List<Item> getSortedView(SortOptionEnum sortOption, List<Item> itemList, int numberOfResults) {
+        if (itemList != this.itemList) {
+            return SortedViews.sortFirst(sortOption, itemList, numberOfResults);
+        }
+        return sortedViews.getFirst(sortOption, itemList, numberOfResults);
+    }
+
+    /**
+     * Keeps the sorted list that was printed, to enable commands that use item index to reference the
      * latest sorted inventory that was printed.
      *
-     * @param itemList the unsorted inventory ArrayList.
-     * @param sortedList the sorted inventory ArrayList.
+     * @param sortedList the sorted inventory List.
      */
-    private void updateSortedOrder(List<Item> itemList, ArrayList<Item> sortedList) {
-        logger.info("Clearing sortedOrder...");
-        sortedOrder.clear();
-        for (int i = 0; i < sortedList.size(); i++) {
-            sortedOrder.add(itemList.indexOf(sortedList.get(i)));
+    private void updateSortedOrder(List<Item> sortedList) {
+        sortedItemIds.clear();
+        for (Item item : sortedList) {
+            sortedItemIds.add(item.getItemId());
+        }
+    }
+
+    private HashMap<String, Item> initializeNameIndex(List<Item> itemList) {
+        logger.info("Generating name index...");
+
+        HashMap<String, Item> itemsByName = new HashMap<>();
+        for (Item item : itemList) {
+            // The first item with a given name wins, as with a linear search through the list
+            itemsByName.putIfAbsent(item.getItemName(), item);
         }
+
+        return itemsByName;
     }
 
-    private ArrayList<Integer> initializeSortedOrder(List<Item> itemList) {
-        logger.info("Generating initial sortedOrder...");
+    private void addToTrimmedNameIndex(Item item) {
+        String trimmedName = item.getItemName().trim();
+        if (!trimmedName.equals(item.getItemName())) {
+            itemsByTrimmedName.putIfAbsent(trimmedName, item);
+        }
+    }
 
-        ArrayList<Integer> sortedOrder = new ArrayList<>();
-        for (int i = 0; i < itemList.size(); i++) {
-            sortedOrder.add(i);
+    /**
+     * Returns an item whose name, without surrounding whitespace, is the keyword, preferring the item named exactly
+     * the keyword.
+     */
+    private Item findItemByTrimmedName(String keyword) {
+        Item item = itemsByName.get(keyword);
+        if (item != null && item.getItemName().trim().equals(keyword)) {
+            return item;
         }
+        return itemsByTrimmedName.get(keyword);
+    }
 
-        return sortedOrder;
+    private SearchIndexes initializeSearchIndexes(List<Item> itemList) {
+        logger.info("Generating search indexes...");
+        return new SearchIndexes(itemList);
     }
 
     /**
@@ -0,0 +1,69 @@
+package seedu.binbash.inventory;
+
+import java.util.Arrays;
+
+/**
+ * The positions in an ItemList of its numbered items. Items are numbered in the order they are appended, and an
+ * item's position is the number of items before it that have not been removed, which is counted with a
+ * Fenwick tree (binary indexed tree) in O(log n) time, so removing an item does not renumber the others.
+ */
+class ItemPositions {
+    // Entry i counts the items not yet removed among the numbers i - (i & -i) to i - 1, for i from 1 to size
+    private int[] counts;
+    private int size;
+
+    /**
+     * Constructs the positions of an empty list.
+     */
+    ItemPositions() {
+        this.counts = new int[16];
+        this.size = 0;
+    }
+
+    /**
+     * Appends the next numbered item to the end of the list.
+     */
+    void append() {
+        size++;
+        if (size == counts.length) {
+            counts = Arrays.copyOf(counts, counts.length * 2);
+        }
+        // The new entry covers this item and the items before it that fall within its range
+        int rangeStart = size - (size & -size);
+        counts[size] = 1 + countBefore(size - 1) - countBefore(rangeStart);
+    }
+
+    /**
+     * Removes a numbered item from the list.
+     *
+     * @param itemNumber the number of the item, which has not been removed yet.
+     */
+    void remove(int itemNumber) {
+        assert itemNumber >= 0 && itemNumber < size;
+        for (int i = itemNumber + 1; i <= size; i += i & -i) {
+            counts[i]--;
+        }
+    }
+
+    /**
+     * Returns the position of a numbered item in the list.
+     *
+     * @param itemNumber the number of the item, which has not been removed.
+     * @return the number of items before the item that have not been removed.
+     */
+    int getPosition(int itemNumber) {
+        assert itemNumber >= 0 && itemNumber < size;
+        return countBefore(itemNumber);
+    }
+
+    /**
+     * Returns the number of items not yet removed among the first numbers.
+     */
+    private int countBefore(int itemNumber) {
+        int count = 0;
+        for (int i = itemNumber; i > 0; i -= i & -i) {
+            count += counts[i];
+        }
+        return count;
+    }
+}
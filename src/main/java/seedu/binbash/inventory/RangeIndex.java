@@ -0,0 +1,142 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.collections.IntObjectHashMap;
+import seedu.binbash.item.Item;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An ordered index of items by the value of one of their fields, which finds the items whose value lies in a
+ * range in O(log n + k) time. Items without a value for the field, such as items without an expiry date,
+ * are not indexed. Items are keyed by their IDs, so that the IDs are not boxed.
+ *
+ * @param <K> the type of the indexed field.
+ */
+class RangeIndex<K extends Comparable<? super K>> {
+    private static final int MIN_SLOTS_PER_KEY = 2;
+
+    private final Function<Item, K> keyExtractor;
+    private final TreeMap<K, IntObjectHashMap<Item>> itemsByKey;
+    // The key each item was indexed under, by item ID, so that an item can be found again after its field
+    // has changed
+    private final IntObjectHashMap<K> keysByItemId;
+
+    /**
+     * Constructs an empty index.
+     *
+     * @param keyExtractor a function returning the value of the indexed field of an item, or null if the item
+     *     has no such field.
+     */
+    RangeIndex(Function<Item, K> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+        this.itemsByKey = new TreeMap<>();
+        this.keysByItemId = new IntObjectHashMap<>();
+    }
+
+    /**
+     * Adds an item to the index, under the current value of its indexed field.
+     *
+     * @param item the item to be added.
+     */
+    void add(Item item) {
+        K key = keyExtractor.apply(item);
+        if (key == null) {
+            return;
+        }
+        keysByItemId.put(item.getItemId(), key);
+        // Most keys are held by few items, such as the prices of items, so each map of items starts small
+        itemsByKey.computeIfAbsent(key, k -> new IntObjectHashMap<>(MIN_SLOTS_PER_KEY)).put(item.getItemId(), item);
+    }
+
+    /**
+     * Removes an item from the index. Does nothing if the item is not indexed.
+     *
+     * @param item the item to be removed.
+     */
+    void remove(Item item) {
+        K key = keysByItemId.remove(item.getItemId());
+        if (key == null) {
+            return;
+        }
+        IntObjectHashMap<Item> itemsWithKey = itemsByKey.get(key);
+        itemsWithKey.remove(item.getItemId());
+        if (itemsWithKey.size() == 0) {
+            itemsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Moves an item to the position of the current value of its indexed field, after the field has changed.
+     *
+     * @param item the item whose indexed field may have changed.
+     */
+    void reindex(Item item) {
+        if (Objects.equals(keysByItemId.get(item.getItemId()), keyExtractor.apply(item))) {
+            return;
+        }
+        remove(item);
+        add(item);
+    }
+
+    /**
+     * Returns the number of items in the index.
+     *
+     * @return the number of items in the index.
+     */
+    int size() {
+        return keysByItemId.size();
+    }
+
+    /**
+     * Counts the items whose indexed field lies in a range, inclusive, stopping once the count reaches a limit.
+     *
+     * @param from the lower bound of the range, or null if the range has no lower bound.
+     * @param to the upper bound of the range, or null if the range has no upper bound.
+     * @param limit the count at which counting stops.
+     * @return the number of items in the range, or limit if there are at least as many.
+     */
+    int countBetween(K from, K to, int limit) {
+        int count = 0;
+        for (IntObjectHashMap<Item> itemsWithKey : getRange(from, to).values()) {
+            count += itemsWithKey.size();
+            if (count >= limit) {
+                return limit;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adds the items whose indexed field lies in a range, inclusive, to a collection, in no particular order.
+     *
+     * @param from the lower bound of the range, or null if the range has no lower bound.
+     * @param to the upper bound of the range, or null if the range has no upper bound.
+     * @param items the collection to add the items to.
+     */
+    void collectBetween(K from, K to, Collection<Item> items) {
+        for (IntObjectHashMap<Item> itemsWithKey : getRange(from, to).values()) {
+            itemsWithKey.forEachValue(items::add);
+        }
+    }
+
+    private NavigableMap<K, IntObjectHashMap<Item>> getRange(K from, K to) {
+        if (from != null && to != null) {
+            if (from.compareTo(to) > 0) {
+                return Collections.emptyNavigableMap();
+            }
+            return itemsByKey.subMap(from, true, to, true);
+        }
+        if (from != null) {
+            return itemsByKey.tailMap(from, true);
+        }
+        if (to != null) {
+            return itemsByKey.headMap(to, true);
+        }
+        return itemsByKey;
+    }
+}
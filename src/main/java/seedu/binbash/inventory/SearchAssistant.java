@@ -1,41 +1,59 @@
 package seedu.binbash.inventory;
 
 import seedu.binbash.item.Item;
-import seedu.binbash.item.PerishableRetailItem;
-import seedu.binbash.item.PerishableOperationalItem;
-import seedu.binbash.item.RetailItem;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
+import java.util.List;
 
 /**
  * A search assistant with a number of helper methods to search through an item list
  * based on an arbitrary number of fields.
+ * Searches are only carried out when the found items are requested: the fields searched by are collected into
+ * a SearchQuery, which checks every field of an item at once, so that the items are searched in a single pass.
+ * When searching through an ItemList, the search starts from the items found by the index of the
+ * most selective range searched by, and only those items are checked against the other fields.
+ * Searches for near matches of a name start from the items found by the edit distance index instead.
  */
 public class SearchAssistant {
     private ArrayList<Item> foundItems;
+    private SearchIndexes searchIndexes;
+    private SearchQuery pendingQuery;
 
     /**
      * Note that the list of items to search through has to be explicitly set by the caller.
      */
     public void setFoundItems(ArrayList<Item> foundItems) {
+        setFoundItems(foundItems, null);
+    }
+
+    /**
+     * Sets the list of items to search through, along with the indexes of those items.
+     *
+     * @param foundItems The items to search through.
+     * @param searchIndexes The indexes of exactly the items to search through, or null to search without indexes.
+     */
+    void setFoundItems(ArrayList<Item> foundItems, SearchIndexes searchIndexes) {
         this.foundItems = foundItems;
+        this.searchIndexes = searchIndexes;
+        this.pendingQuery = new SearchQuery();
     }
 
     public ArrayList<Item> getFoundItems() {
+        applyPendingSearches(Integer.MAX_VALUE);
         return foundItems;
     }
 
     /**
-     * Returns at most the desired number of items found
+     * Returns at most the desired number of items found.
+     * The search stops as soon as this many items are found, so foundItems holds at most this many items afterwards.
      *
      * @param numberOfResults The number of results desired
      * @return A list of the first numberOfResults items in foundItems if at least numberOfResults items 
      *     in foundItems, the full foundItems list otherwise
      */
     public ArrayList<Item> getFoundItems(int numberOfResults) {
+        applyPendingSearches(numberOfResults);
         if (numberOfResults > foundItems.size()) {
             return foundItems;
         }
@@ -53,9 +71,25 @@ public class SearchAssistant {
         if (nameField.equals("")) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemName().toLowerCase().contains(nameField.toLowerCase()))
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.addNameSubstring(nameField);
+        return this;
+    }
+
+    /**
+     * Searches for items whose names are within a number of edits of the specified string, ignoring case, where an
+     * edit inserts, deletes or substitutes one character. The items found are ranked by how few edits their names
+     * are from the string, and items equally close are kept in list order.
+     * If the given string is empty, no filtering is applied.
+     *
+     * @param nameField The given string.
+     * @param maxDistance The greatest number of edits of the names found.
+     * @return The current instance of SearchAssistant.
+     */
+    public SearchAssistant searchByNameWithin(String nameField, int maxDistance) {
+        if (nameField.equals("")) {
+            return this;
+        }
+        pendingQuery.setFuzzyName(nameField, maxDistance);
         return this;
     }
 
@@ -70,9 +104,7 @@ public class SearchAssistant {
         if (nameField.equals("")) {
             return this;
         }
-        foundItems = foundItems.stream()
-                .filter(item -> item.getItemName().equals(nameField))
-                .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.addExactName(nameField);
         return this;
     }
 
@@ -86,9 +118,7 @@ public class SearchAssistant {
         if (descriptionField.equals("")) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemDescription().toLowerCase().contains(descriptionField.toLowerCase()))
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.addDescriptionSubstring(descriptionField);
         return this;
     }
 
@@ -115,9 +145,7 @@ public class SearchAssistant {
         if (from < 0) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemQuantity() >= from)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.raiseQuantityFrom(from);
         return this;
     }
 
@@ -131,9 +159,7 @@ public class SearchAssistant {
         if (to == Integer.MAX_VALUE) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemQuantity() <= to)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.lowerQuantityTo(to);
         return this;
     }
 
@@ -160,9 +186,7 @@ public class SearchAssistant {
         if (fromPrice == Double.MIN_VALUE) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemCostPrice() >= fromPrice)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.raiseCostPriceFrom(fromPrice);
         return this;
     }
 
@@ -176,9 +200,7 @@ public class SearchAssistant {
         if (toPrice == Double.MAX_VALUE) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item.getItemCostPrice() <= toPrice)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.lowerCostPriceTo(toPrice);
         return this;
     }
 
@@ -206,10 +228,7 @@ public class SearchAssistant {
         if (fromPrice == Double.MIN_VALUE) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item instanceof RetailItem)
-            .filter(item -> ((RetailItem) item).getItemSalePrice() >= fromPrice)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.raiseSalePriceFrom(fromPrice);
         return this;
     }
 
@@ -224,10 +243,7 @@ public class SearchAssistant {
         if (toPrice == Double.MAX_VALUE) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item instanceof RetailItem)
-            .filter(item -> ((RetailItem) item).getItemSalePrice() <= toPrice)
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.lowerSalePriceTo(toPrice);
         return this;
     }
 
@@ -255,14 +271,7 @@ public class SearchAssistant {
         if (fromDate == LocalDate.MIN) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item instanceof PerishableRetailItem || item instanceof PerishableOperationalItem)
-            .filter(item -> item instanceof PerishableRetailItem?
-                    !LocalDate.parse(((PerishableRetailItem) item).getItemExpirationDate(),
-                        DateTimeFormatter.ofPattern("dd-MM-yyyy")).isBefore(fromDate) :
-                    !LocalDate.parse(((PerishableOperationalItem) item).getItemExpirationDate(),
-                        DateTimeFormatter.ofPattern("dd-MM-yyyy")).isBefore(fromDate))
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.raiseExpiryDateFrom(fromDate);
         return this;
     }
 
@@ -277,14 +286,100 @@ public class SearchAssistant {
         if (toDate == LocalDate.MAX) {
             return this;
         }
-        foundItems = foundItems.stream()
-            .filter(item -> item instanceof PerishableRetailItem || item instanceof PerishableOperationalItem)
-            .filter(item -> item instanceof PerishableRetailItem?
-                    !LocalDate.parse(((PerishableRetailItem) item).getItemExpirationDate(),
-                        DateTimeFormatter.ofPattern("dd-MM-yyyy")).isAfter(toDate) :
-                    !LocalDate.parse(((PerishableOperationalItem) item).getItemExpirationDate(),
-                        DateTimeFormatter.ofPattern("dd-MM-yyyy")).isAfter(toDate))
-            .collect(Collectors.toCollection(ArrayList::new));
+        pendingQuery.lowerExpiryDateTo(toDate);
         return this;
     }
+
+    /**
+     * Narrows down foundItems to the first items, up to a limit, that match every search made since the found items
+     * were last set or requested.
+     */
+    private void applyPendingSearches(int numberOfResults) {
+        if (pendingQuery.isMatchAll()) {
+            return;
+        }
+
+        if (pendingQuery.hasFuzzyName()) {
+            foundItems = searchNearestNames(numberOfResults);
+        } else if (searchIndexes == null) {
+            foundItems = searchInListOrder(numberOfResults);
+        } else {
+            foundItems = searchFromMostSelectiveIndex(numberOfResults);
+        }
+        // The found items are no longer the items that were indexed
+        searchIndexes = null;
+        pendingQuery = new SearchQuery();
+    }
+
+    /**
+     * Ranks the items whose names are near the fuzzy name searched for, checking only the items found by the edit
+     * distance index if there is one.
+     */
+    private ArrayList<Item> searchNearestNames(int numberOfResults) {
+        List<Item> candidates = foundItems;
+        if (searchIndexes != null) {
+            ArrayList<Item> nearItems = new ArrayList<>();
+            searchIndexes.collectNamesWithin(pendingQuery.getLowerCaseFuzzyName(), pendingQuery.getMaxNameDistance(),
+                    nearItems);
+            candidates = searchIndexes.getFirstInListOrder(nearItems, nearItems.size());
+        }
+        return pendingQuery.rankByNameDistance(candidates, numberOfResults);
+    }
+
+    /**
+     * Checks the items in list order, stopping as soon as enough matching items are found.
+     */
+    private ArrayList<Item> searchInListOrder(int numberOfResults) {
+        ArrayList<Item> matchingItems = new ArrayList<>();
+        for (Item item : foundItems) {
+            if (pendingQuery.test(item)) {
+                matchingItems.add(item);
+                if (matchingItems.size() >= numberOfResults) {
+                    break;
+                }
+            }
+        }
+        return matchingItems;
+    }
+
+    /**
+     * Checks only the items found by the most selective index lookup, that is the range or substring with the
+     * fewest items in its index, then returns the first matching items in list order. Falls back to checking every
+     * item in list order if no lookup finds fewer than every item, or if doing so is expected to find enough
+     * matching items sooner.
+     */
+    private ArrayList<Item> searchFromMostSelectiveIndex(int numberOfResults) {
+        SearchQuery.IndexLookup mostSelectiveLookup = null;
+        int fewestItems = foundItems.size();
+        for (SearchQuery.IndexLookup lookup : pendingQuery.getIndexLookups(searchIndexes)) {
+            int itemsFound = lookup.countItems(fewestItems);
+            if (itemsFound < fewestItems) {
+                mostSelectiveLookup = lookup;
+                fewestItems = itemsFound;
+            }
+        }
+        if (mostSelectiveLookup == null || isListOrderSearchShorter(fewestItems, numberOfResults)) {
+            return searchInListOrder(numberOfResults);
+        }
+
+        ArrayList<Item> candidates = new ArrayList<>(fewestItems);
+        mostSelectiveLookup.collectItems(candidates);
+        ArrayList<Item> matchingItems = new ArrayList<>();
+        for (Item item : candidates) {
+            if (pendingQuery.test(item)) {
+                matchingItems.add(item);
+            }
+        }
+        return searchIndexes.getFirstInListOrder(matchingItems, numberOfResults);
+    }
+
+    /**
+     * Returns whether checking items in list order is expected to find enough matching items before all the
+     * items found by an index lookup can be collected. If the items found are spread evenly through
+     * the list, one in every (list size / items found) items is found by the lookup.
+     */
+    private boolean isListOrderSearchShorter(int itemsFound, int numberOfResults) {
+        long expectedItemsChecked = (long) numberOfResults * foundItems.size() / Math.max(itemsFound, 1);
+        return expectedItemsChecked < itemsFound;
+    }
 }
@@ -0,0 +1,247 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.collections.IntIntHashMap;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.PerishableOperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+import seedu.binbash.item.RetailItem;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * The indexes of an ItemList on the fields that can be searched by: ordered indexes on the fields searched by
+ * range, which are quantity, cost price, sale price and expiry date, trigram indexes on the name and
+ * description, which are searched by substring, and an edit distance index on the name, which is searched by
+ * near matches. The ItemList keeps them up to date as its items are added, changed and deleted.
+ */
+class SearchIndexes {
+    private final TrigramIndex nameIndex;
+    private final TrigramIndex descriptionIndex;
+    // Built the first time names are searched for near matches, as it takes several times longer to build than
+    // the other indexes, then kept up to date. Null until then
+    private EditDistanceIndex nameDistanceIndex;
+    private final RangeIndex<Integer> quantityIndex;
+    private final RangeIndex<Long> costPriceIndex;
+    private final RangeIndex<Long> salePriceIndex;
+    private final RangeIndex<LocalDate> expiryDateIndex;
+    // Items are numbered in the order they are added. As items are only ever appended to an ItemList,
+    // this is their order in the list. Keyed by item ID
+    private final IntIntHashMap itemNumbers;
+    // Holds null in place of items that have been removed, as numbers are not reused
+    private final ArrayList<Item> itemsByNumber;
+    private final ItemPositions itemPositions;
+
+    /**
+     * Constructs the indexes of a list of items.
+     *
+     * @param items the items to be indexed, in list order.
+     */
+    SearchIndexes(List<Item> items) {
+        nameIndex = new TrigramIndex();
+        descriptionIndex = new TrigramIndex();
+        quantityIndex = new RangeIndex<>(Item::getItemQuantity);
+        costPriceIndex = new RangeIndex<>(Item::getItemCostPriceInCents);
+        salePriceIndex = new RangeIndex<>(SearchIndexes::getSalePrice);
+        expiryDateIndex = new RangeIndex<>(SearchIndexes::getExpiryDate);
+        itemNumbers = new IntIntHashMap();
+        itemsByNumber = new ArrayList<>();
+        itemPositions = new ItemPositions();
+
+        for (Item item : items) {
+            add(item);
+        }
+    }
+
+    /**
+     * Returns the sale price of an item in cents, or null if the item is not a retail item.
+     */
+    static Long getSalePrice(Item item) {
+        if (item instanceof RetailItem) {
+            return ((RetailItem) item).getItemSalePriceInCents();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the expiry date of an item, or null if the item is not perishable.
+     */
+    static LocalDate getExpiryDate(Item item) {
+        if (item instanceof PerishableRetailItem) {
+            return ((PerishableRetailItem) item).getLocalDateItemExpirationDate();
+        } else if (item instanceof PerishableOperationalItem) {
+            return ((PerishableOperationalItem) item).getLocalDateItemExpirationDate();
+        }
+        return null;
+    }
+
+    TrigramIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    TrigramIndex getDescriptionIndex() {
+        return descriptionIndex;
+    }
+
+    RangeIndex<Integer> getQuantityIndex() {
+        return quantityIndex;
+    }
+
+    RangeIndex<Long> getCostPriceIndex() {
+        return costPriceIndex;
+    }
+
+    RangeIndex<Long> getSalePriceIndex() {
+        return salePriceIndex;
+    }
+
+    RangeIndex<LocalDate> getExpiryDateIndex() {
+        return expiryDateIndex;
+    }
+
+    /**
+     * Adds an item, which has just been appended to the ItemList, to every index.
+     *
+     * @param item the item to be added.
+     */
+    void add(Item item) {
+        int itemNumber = itemsByNumber.size();
+        itemsByNumber.add(item);
+        itemNumbers.put(item.getItemId(), itemNumber);
+        itemPositions.append();
+        nameIndex.add(itemNumber, item.getLowerCaseItemName());
+        descriptionIndex.add(itemNumber, item.getLowerCaseItemDescription());
+        if (nameDistanceIndex != null) {
+            nameDistanceIndex.add(itemNumber, item.getLowerCaseItemName());
+        }
+        quantityIndex.add(item);
+        costPriceIndex.add(item);
+        salePriceIndex.add(item);
+        expiryDateIndex.add(item);
+    }
+
+    /**
+     * Removes an item from every index.
+     *
+     * @param item the item to be removed.
+     */
+    void remove(Item item) {
+        int itemNumber = itemNumbers.getOrDefault(item.getItemId(), -1);
+        if (itemNumber < 0) {
+            return;
+        }
+        itemNumbers.remove(item.getItemId());
+        itemsByNumber.set(itemNumber, null);
+        itemPositions.remove(itemNumber);
+        nameIndex.remove(itemNumber);
+        descriptionIndex.remove(itemNumber);
+        if (nameDistanceIndex != null) {
+            nameDistanceIndex.remove(itemNumber);
+        }
+        quantityIndex.remove(item);
+        costPriceIndex.remove(item);
+        salePriceIndex.remove(item);
+        expiryDateIndex.remove(item);
+    }
+
+    /**
+     * Returns the position of an indexed item in the ItemList, in O(log n) time.
+     *
+     * @param item the indexed item.
+     * @return the index of the item in the ItemList.
+     */
+    int getListPosition(Item item) {
+        return itemPositions.getPosition(getItemNumber(item));
+    }
+
+    private int getItemNumber(Item item) {
+        int itemNumber = itemNumbers.getOrDefault(item.getItemId(), -1);
+        assert itemNumber >= 0 : "item is not indexed";
+        return itemNumber;
+    }
+
+    /**
+     * Updates every index after fields of an item have changed.
+     *
+     * @param item the item that has changed.
+     */
+    void reindex(Item item) {
+        int itemNumber = getItemNumber(item);
+        nameIndex.reindex(itemNumber, item.getLowerCaseItemName());
+        descriptionIndex.reindex(itemNumber, item.getLowerCaseItemDescription());
+        if (nameDistanceIndex != null) {
+            nameDistanceIndex.reindex(itemNumber, item.getLowerCaseItemName());
+        }
+        quantityIndex.reindex(item);
+        costPriceIndex.reindex(item);
+        salePriceIndex.reindex(item);
+        expiryDateIndex.reindex(item);
+    }
+
+    /**
+     * Adds the items whose name or description contains a substring to a list, in list order.
+     *
+     * @param textIndex the name index or the description index.
+     * @param lowerCaseSubstring the substring in lower case, at least a trigram long.
+     * @param items the list to add the items to.
+     */
+    void collectContaining(TrigramIndex textIndex, String lowerCaseSubstring, List<Item> items) {
+        textIndex.forEachContaining(lowerCaseSubstring, itemNumber -> items.add(itemsByNumber.get(itemNumber)));
+    }
+
+    /**
+     * Adds the items whose name is within an edit distance of a name to a list, in no particular order.
+     * Builds the edit distance index first if this is the first such search.
+     *
+     * @param lowerCaseName the name in lower case, prepared for measuring edit distances to it.
+     * @param maxDistance the greatest edit distance of the names found.
+     * @param items the list to add the items to.
+     */
+    void collectNamesWithin(EditDistancePattern lowerCaseName, int maxDistance, List<Item> items) {
+        if (nameDistanceIndex == null) {
+            nameDistanceIndex = new EditDistanceIndex();
+            for (int itemNumber = 0; itemNumber < itemsByNumber.size(); itemNumber++) {
+                Item item = itemsByNumber.get(itemNumber);
+                if (item != null) {
+                    nameDistanceIndex.add(itemNumber, item.getLowerCaseItemName());
+                }
+            }
+        }
+        nameDistanceIndex.forEachWithin(lowerCaseName, maxDistance,
+                itemNumber -> items.add(itemsByNumber.get(itemNumber)));
+    }
+
+    /**
+     * Returns the first indexed items, up to a limit, in the order they are in the ItemList.
+     * Only the items returned are sorted, so taking the first k of n items takes O(n log k) time.
+     *
+     * @param items the items to choose from, all of which are indexed.
+     * @param limit the maximum number of items to return.
+     * @return the first items in list order.
+     */
+    ArrayList<Item> getFirstInListOrder(List<Item> items, int limit) {
+        Comparator<Item> listOrder = Comparator.comparingInt(this::getItemNumber);
+        if (items.size() <= limit) {
+            ArrayList<Item> sortedItems = new ArrayList<>(items);
+            sortedItems.sort(listOrder);
+            return sortedItems;
+        }
+
+        // Holds the first items seen so far, with the last of them at the head to be replaced
+        PriorityQueue<Item> firstItems = new PriorityQueue<>(limit, listOrder.reversed());
+        for (Item item : items) {
+            if (firstItems.size() < limit) {
+                firstItems.add(item);
+            } else if (listOrder.compare(item, firstItems.peek()) < 0) {
+                firstItems.poll();
+                firstItems.add(item);
+            }
+        }
+        ArrayList<Item> sortedItems = new ArrayList<>(firstItems);
+        sortedItems.sort(listOrder);
+        return sortedItems;
+    }
+}
@@ -0,0 +1,351 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.item.Item;
+import seedu.binbash.item.RetailItem;
+import seedu.binbash.money.Money;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The fields searched by in a search, fused into a single predicate that checks every field of an item in one
+ * call. Fields that are not searched by are skipped, and the numeric fields, which are cheap to check, are
+ * checked before the name and description.
+ */
+class SearchQuery implements Predicate<Item> {
+    private final ArrayList<String> exactNames;
+    private final ArrayList<String> lowerCaseNameSubstrings;
+    private final ArrayList<String> lowerCaseDescriptionSubstrings;
+    private boolean hasQuantityRange;
+    private int quantityFrom;
+    private int quantityTo;
+    // Price ranges are held in cents, narrowed to the prices in cents that lie within the ranges given in dollars
+    private boolean hasCostPriceRange;
+    private long costPriceFrom;
+    private long costPriceTo;
+    private boolean hasSalePriceRange;
+    private long salePriceFrom;
+    private long salePriceTo;
+    private boolean hasExpiryDateRange;
+    private LocalDate expiryDateFrom;
+    private LocalDate expiryDateTo;
+    private EditDistancePattern lowerCaseFuzzyName;
+    private int maxNameDistance;
+
+    /**
+     * Constructs a query that matches every item.
+     */
+    SearchQuery() {
+        exactNames = new ArrayList<>();
+        lowerCaseNameSubstrings = new ArrayList<>();
+        lowerCaseDescriptionSubstrings = new ArrayList<>();
+        quantityFrom = Integer.MIN_VALUE;
+        quantityTo = Integer.MAX_VALUE;
+        costPriceFrom = Long.MIN_VALUE;
+        costPriceTo = Long.MAX_VALUE;
+        salePriceFrom = Long.MIN_VALUE;
+        salePriceTo = Long.MAX_VALUE;
+        expiryDateFrom = LocalDate.MIN;
+        expiryDateTo = LocalDate.MAX;
+    }
+
+    void addExactName(String name) {
+        exactNames.add(name);
+    }
+
+    void addNameSubstring(String nameSubstring) {
+        lowerCaseNameSubstrings.add(nameSubstring.toLowerCase());
+    }
+
+    void addDescriptionSubstring(String descriptionSubstring) {
+        lowerCaseDescriptionSubstrings.add(descriptionSubstring.toLowerCase());
+    }
+
+    /**
+     * Searches for names within an edit distance of a name, ignoring case, in place of any name searched for
+     * this way before.
+     *
+     * @param fuzzyName the name to search for near matches of.
+     * @param maxDistance the greatest edit distance of the names matched.
+     */
+    void setFuzzyName(String fuzzyName, int maxDistance) {
+        lowerCaseFuzzyName = new EditDistancePattern(fuzzyName.toLowerCase());
+        maxNameDistance = maxDistance;
+    }
+
+    boolean hasFuzzyName() {
+        return lowerCaseFuzzyName != null;
+    }
+
+    EditDistancePattern getLowerCaseFuzzyName() {
+        return lowerCaseFuzzyName;
+    }
+
+    int getMaxNameDistance() {
+        return maxNameDistance;
+    }
+
+    void raiseQuantityFrom(int from) {
+        hasQuantityRange = true;
+        quantityFrom = Math.max(quantityFrom, from);
+    }
+
+    void lowerQuantityTo(int to) {
+        hasQuantityRange = true;
+        quantityTo = Math.min(quantityTo, to);
+    }
+
+    void raiseCostPriceFrom(double from) {
+        hasCostPriceRange = true;
+        costPriceFrom = Math.max(costPriceFrom, Money.ceilCents(from));
+    }
+
+    void lowerCostPriceTo(double to) {
+        hasCostPriceRange = true;
+        costPriceTo = Math.min(costPriceTo, Money.floorCents(to));
+    }
+
+    void raiseSalePriceFrom(double from) {
+        hasSalePriceRange = true;
+        salePriceFrom = Math.max(salePriceFrom, Money.ceilCents(from));
+    }
+
+    void lowerSalePriceTo(double to) {
+        hasSalePriceRange = true;
+        salePriceTo = Math.min(salePriceTo, Money.floorCents(to));
+    }
+
+    void raiseExpiryDateFrom(LocalDate from) {
+        hasExpiryDateRange = true;
+        expiryDateFrom = from.isAfter(expiryDateFrom) ? from : expiryDateFrom;
+    }
+
+    void lowerExpiryDateTo(LocalDate to) {
+        hasExpiryDateRange = true;
+        expiryDateTo = to.isBefore(expiryDateTo) ? to : expiryDateTo;
+    }
+
+    /**
+     * Returns whether the query matches every item, as no field is searched by.
+     *
+     * @return true if no field is searched by, false otherwise.
+     */
+    boolean isMatchAll() {
+        return !hasQuantityRange && !hasCostPriceRange && !hasSalePriceRange && !hasExpiryDateRange
+                && exactNames.isEmpty() && lowerCaseNameSubstrings.isEmpty()
+                && lowerCaseDescriptionSubstrings.isEmpty() && lowerCaseFuzzyName == null;
+    }
+
+    /**
+     * Returns the lookups of the ranges and substrings searched by that can be made in the given indexes.
+     * Any item that matches the query is found by each of the lookups.
+     *
+     * @param searchIndexes the indexes of the items searched through.
+     * @return the lookups of every range searched by and every substring long enough to be looked up.
+     */
+    List<IndexLookup> getIndexLookups(SearchIndexes searchIndexes) {
+        ArrayList<IndexLookup> lookups = new ArrayList<>();
+        for (String nameSubstring : lowerCaseNameSubstrings) {
+            if (TrigramIndex.canLookUp(nameSubstring)) {
+                lookups.add(new SubstringLookup(searchIndexes, searchIndexes.getNameIndex(), nameSubstring));
+            }
+        }
+        for (String descriptionSubstring : lowerCaseDescriptionSubstrings) {
+            if (TrigramIndex.canLookUp(descriptionSubstring)) {
+                lookups.add(new SubstringLookup(searchIndexes, searchIndexes.getDescriptionIndex(),
+                        descriptionSubstring));
+            }
+        }
+        if (hasQuantityRange) {
+            lookups.add(new IndexedRange<>(searchIndexes.getQuantityIndex(), quantityFrom, quantityTo));
+        }
+        if (hasCostPriceRange) {
+            lookups.add(new IndexedRange<>(searchIndexes.getCostPriceIndex(), costPriceFrom, costPriceTo));
+        }
+        if (hasSalePriceRange) {
+            lookups.add(new IndexedRange<>(searchIndexes.getSalePriceIndex(), salePriceFrom, salePriceTo));
+        }
+        if (hasExpiryDateRange) {
+            lookups.add(new IndexedRange<>(searchIndexes.getExpiryDateIndex(), expiryDateFrom, expiryDateTo));
+        }
+        return lookups;
+    }
+
+    /**
+     * Returns the matching items ranked by the edit distance of their name to the fuzzy name searched for, closest
+     * first, keeping the order of items at the same distance.
+     *
+     * @param items the items to check, with a fuzzy name searched for.
+     * @param limit the maximum number of items to return.
+     * @return the first matching items, up to the limit, in order of rank.
+     */
+    ArrayList<Item> rankByNameDistance(List<Item> items, int limit) {
+        assert hasFuzzyName();
+        ArrayList<ArrayList<Item>> itemsByDistance = new ArrayList<>();
+        for (int distance = 0; distance <= maxNameDistance; distance++) {
+            itemsByDistance.add(new ArrayList<>());
+        }
+        for (Item item : items) {
+            if (!testExceptFuzzyName(item)) {
+                continue;
+            }
+            int distance = getNameDistance(item);
+            if (distance <= maxNameDistance) {
+                itemsByDistance.get(distance).add(item);
+            }
+        }
+
+        ArrayList<Item> rankedItems = new ArrayList<>();
+        for (ArrayList<Item> itemsAtDistance : itemsByDistance) {
+            for (Item item : itemsAtDistance) {
+                if (rankedItems.size() >= limit) {
+                    return rankedItems;
+                }
+                rankedItems.add(item);
+            }
+        }
+        return rankedItems;
+    }
+
+    @Override
+    public boolean test(Item item) {
+        return testExceptFuzzyName(item) && (!hasFuzzyName() || getNameDistance(item) <= maxNameDistance);
+    }
+
+    private int getNameDistance(Item item) {
+        return lowerCaseFuzzyName.getDistanceTo(item.getLowerCaseItemName());
+    }
+
+    private boolean testExceptFuzzyName(Item item) {
+        if (hasQuantityRange) {
+            int quantity = item.getItemQuantity();
+            if (quantity < quantityFrom || quantity > quantityTo) {
+                return false;
+            }
+        }
+        if (hasCostPriceRange) {
+            long costPrice = item.getItemCostPriceInCents();
+            if (costPrice < costPriceFrom || costPrice > costPriceTo) {
+                return false;
+            }
+        }
+        if (hasSalePriceRange) {
+            if (!(item instanceof RetailItem)) {
+                return false;
+            }
+            long salePrice = ((RetailItem) item).getItemSalePriceInCents();
+            if (salePrice < salePriceFrom || salePrice > salePriceTo) {
+                return false;
+            }
+        }
+        if (hasExpiryDateRange) {
+            LocalDate expiryDate = SearchIndexes.getExpiryDate(item);
+            if (expiryDate == null || expiryDate.isBefore(expiryDateFrom) || expiryDate.isAfter(expiryDateTo)) {
+                return false;
+            }
+        }
+        return hasExactNames(item) && hasNameSubstrings(item) && hasDescriptionSubstrings(item);
+    }
+
+    private boolean hasExactNames(Item item) {
+        for (String exactName : exactNames) {
+            if (!item.getItemName().equals(exactName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasNameSubstrings(Item item) {
+        if (lowerCaseNameSubstrings.isEmpty()) {
+            return true;
+        }
+        String lowerCaseName = item.getLowerCaseItemName();
+        for (String nameSubstring : lowerCaseNameSubstrings) {
+            if (!lowerCaseName.contains(nameSubstring)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean hasDescriptionSubstrings(Item item) {
+        if (lowerCaseDescriptionSubstrings.isEmpty()) {
+            return true;
+        }
+        String lowerCaseDescription = item.getLowerCaseItemDescription();
+        for (String descriptionSubstring : lowerCaseDescriptionSubstrings) {
+            if (!lowerCaseDescription.contains(descriptionSubstring)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A lookup of the items that could match part of a query in an index.
+     */
+    interface IndexLookup {
+        /**
+         * Returns an upper bound on the number of items found by the lookup, or the limit if that is smaller.
+         */
+        int countItems(int limit);
+
+        /**
+         * Adds the items found by the lookup to a list, in no particular order.
+         */
+        void collectItems(List<Item> items);
+    }
+
+    /**
+     * A substring searched by, along with the index that the items containing it can be found from.
+     */
+    static class SubstringLookup implements IndexLookup {
+        private final SearchIndexes searchIndexes;
+        private final TrigramIndex index;
+        private final String lowerCaseSubstring;
+
+        SubstringLookup(SearchIndexes searchIndexes, TrigramIndex index, String lowerCaseSubstring) {
+            this.searchIndexes = searchIndexes;
+            this.index = index;
+            this.lowerCaseSubstring = lowerCaseSubstring;
+        }
+
+        @Override
+        public int countItems(int limit) {
+            return index.countCandidates(lowerCaseSubstring, limit);
+        }
+
+        @Override
+        public void collectItems(List<Item> items) {
+            searchIndexes.collectContaining(index, lowerCaseSubstring, items);
+        }
+    }
+
+    /**
+     * A range searched by, along with the index that the items in the range can be found from.
+     */
+    static class IndexedRange<K extends Comparable<? super K>> implements IndexLookup {
+        private final RangeIndex<K> index;
+        private final K from;
+        private final K to;
+
+        IndexedRange(RangeIndex<K> index, K from, K to) {
+            this.index = index;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int countItems(int limit) {
+            return index.countBetween(from, to, limit);
+        }
+
+        @Override
+        public void collectItems(List<Item> items) {
+            index.collectBetween(from, to, items);
+        }
+    }
+}
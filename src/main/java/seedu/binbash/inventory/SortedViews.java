@@ -0,0 +1,191 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.comparators.ItemComparatorByCostPrice;
+import seedu.binbash.comparators.ItemComparatorByExpiryDate;
+import seedu.binbash.comparators.ItemComparatorByProfit;
+import seedu.binbash.comparators.ItemComparatorBySalePrice;
+import seedu.binbash.enums.SortOptionEnum;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.PerishableOperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+import seedu.binbash.item.RetailItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * The sorted views of an ItemList, one for each sort option, which are each sorted the first time they are
+ * listed and kept until an item in the view is added, deleted or has a field its sort order depends on changed.
+ * The ItemList invalidates the views as its items change, so listing an unchanged view again only renders it.
+ * A view is sorted again in full the next time it is listed rather than patched, so that it is always ordered
+ * exactly as a fresh sort orders it, with items of equal keys in list order.
+ * When only the first items of a view that is not cached are listed, they are picked out with a bounded heap in
+ * O(n log k) time instead of sorting every item.
+ */
+class SortedViews {
+    private final EnumMap<SortOptionEnum, List<Item>> cachedViews;
+
+    /**
+     * Constructs the sorted views of an ItemList, none of which are sorted yet.
+     */
+    SortedViews() {
+        this.cachedViews = new EnumMap<>(SortOptionEnum.class);
+    }
+
+    /**
+     * Returns the view of the items for a sort option, sorting it if it is not cached.
+     *
+     * @param sortOption the sort option, which is not NONE.
+     * @param items every item in the ItemList, in list order.
+     * @return the view, which must not be modified.
+     */
+    List<Item> get(SortOptionEnum sortOption, List<Item> items) {
+        List<Item> view = cachedViews.get(sortOption);
+        if (view == null) {
+            view = Collections.unmodifiableList(sort(sortOption, items));
+            cachedViews.put(sortOption, view);
+        }
+        return view;
+    }
+
+    /**
+     * Returns the first items of the view of the items for a sort option, up to a limit. These are taken from the
+     * view if it is cached, and otherwise picked out without sorting the whole view if there are few enough.
+     *
+     * @param sortOption the sort option, which is not NONE.
+     * @param items every item in the ItemList, in list order.
+     * @param limit the maximum number of items to return, at least 1.
+     * @return the first items of the view, which must not be modified.
+     */
+    List<Item> getFirst(SortOptionEnum sortOption, List<Item> items, int limit) {
+        if (!cachedViews.containsKey(sortOption) && isSelectionFaster(items.size(), limit)) {
+            return selectFirst(sortOption, items, limit);
+        }
+        List<Item> view = get(sortOption, items);
+        return view.subList(0, Math.min(limit, view.size()));
+    }
+
+    /**
+     * Returns the first items for a sort option, up to a limit, filtered and sorted afresh.
+     *
+     * @param sortOption the sort option, which is not NONE.
+     * @param items the items to be sorted, in list order.
+     * @param limit the maximum number of items to return, at least 1.
+     * @return the first items of the view, in sorted order.
+     */
+    static List<Item> sortFirst(SortOptionEnum sortOption, List<Item> items, int limit) {
+        if (isSelectionFaster(items.size(), limit)) {
+            return selectFirst(sortOption, items, limit);
+        }
+        ArrayList<Item> sortedItems = sort(sortOption, items);
+        return sortedItems.subList(0, Math.min(limit, sortedItems.size()));
+    }
+
+    /**
+     * Returns whether picking out the first items with a bounded heap is expected to be faster than sorting every
+     * item. Sorting every item is preferred once many are wanted, as the sorted view can then be cached.
+     */
+    private static boolean isSelectionFaster(int itemCount, int limit) {
+        return (long) limit * 4 < itemCount;
+    }
+
+    /**
+     * Returns the first items for a sort option, up to a limit, in O(n log k) time. Items are referred to by their
+     * position in the list, which orders items with equal keys as a stable sort of the whole list does.
+     */
+    private static ArrayList<Item> selectFirst(SortOptionEnum sortOption, List<Item> items, int limit) {
+        assert limit >= 1;
+        Predicate<Item> filter = getFilter(sortOption);
+        Comparator<Item> comparator = getComparator(sortOption);
+        Comparator<Integer> viewOrder = (position1, position2) -> {
+            int result = comparator.compare(items.get(position1), items.get(position2));
+            return result != 0 ? result : Integer.compare(position1, position2);
+        };
+
+        // Holds the positions of the first items seen so far, with the last of them at the head to be replaced
+        PriorityQueue<Integer> firstPositions = new PriorityQueue<>(limit, viewOrder.reversed());
+        for (int position = 0; position < items.size(); position++) {
+            if (!filter.test(items.get(position))) {
+                continue;
+            }
+            if (firstPositions.size() < limit) {
+                firstPositions.add(position);
+            } else if (viewOrder.compare(position, firstPositions.peek()) < 0) {
+                firstPositions.poll();
+                firstPositions.add(position);
+            }
+        }
+
+        ArrayList<Integer> sortedPositions = new ArrayList<>(firstPositions);
+        sortedPositions.sort(viewOrder);
+        ArrayList<Item> firstItems = new ArrayList<>(sortedPositions.size());
+        for (int position : sortedPositions) {
+            firstItems.add(items.get(position));
+        }
+        return firstItems;
+    }
+
+    /**
+     * Returns the items for a sort option, filtered and sorted afresh.
+     *
+     * @param sortOption the sort option, which is not NONE.
+     * @param items the items to be sorted.
+     * @return the items of the view, in sorted order.
+     */
+    static ArrayList<Item> sort(SortOptionEnum sortOption, List<Item> items) {
+        return items.stream()
+                .filter(getFilter(sortOption))
+                .sorted(getComparator(sortOption))
+                .collect(toCollection(ArrayList::new));
+    }
+
+    /**
+     * Drops the cached views for sort options, among those given, that include an item. Called when the item is
+     * added or deleted, or a field the given views are sorted by changes.
+     *
+     * @param item the item that has changed.
+     * @param sortOptions the sort options whose views depend on the change.
+     */
+    void invalidate(Item item, SortOptionEnum... sortOptions) {
+        for (SortOptionEnum sortOption : sortOptions) {
+            if (sortOption != SortOptionEnum.NONE && getFilter(sortOption).test(item)) {
+                cachedViews.remove(sortOption);
+            }
+        }
+    }
+
+    private static Predicate<Item> getFilter(SortOptionEnum sortOption) {
+        switch (sortOption) {
+        case EXPIRY:
+            return item -> item instanceof PerishableOperationalItem || item instanceof PerishableRetailItem;
+        case SALE:
+            //Fallthrough
+        case PROFIT:
+            return item -> item instanceof RetailItem;
+        default:
+            return item -> true;
+        }
+    }
+
+    private static Comparator<Item> getComparator(SortOptionEnum sortOption) {
+        switch (sortOption) {
+        case EXPIRY:
+            return new ItemComparatorByExpiryDate();
+        case SALE:
+            return new ItemComparatorBySalePrice();
+        case PROFIT:
+            return new ItemComparatorByProfit();
+        case COST:
+            return new ItemComparatorByCostPrice();
+        default:
+            throw new IllegalArgumentException("The unsorted list has no sorted view");
+        }
+    }
+}
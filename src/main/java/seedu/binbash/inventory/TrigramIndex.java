@@ -0,0 +1,173 @@
+package seedu.binbash.inventory;
+
+import seedu.binbash.collections.IntSortedSet;
+import seedu.binbash.collections.LongObjectHashMap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * An inverted index of items by the trigrams (runs of three characters) of one of their text fields in lower case.
+ * Items are referred to by their item numbers, and the item numbers with each trigram are kept in a sorted set, to
+ * which items are usually added in ascending order of item number, making each addition an append.
+ * The items whose field contains a substring of at least three characters are found by intersecting the arrays of
+ * each trigram of the substring, then checking the field of only those items for the substring.
+ */
+class TrigramIndex {
+    static final int TRIGRAM_LENGTH = 3;
+
+    // Trigrams are packed into longs, so that neither they nor the item numbers are boxed
+    private final LongObjectHashMap<IntSortedSet> postingsByTrigram;
+    // The text each item was indexed under, by item number, which substrings are checked against
+    private final ArrayList<String> lowerCaseTexts;
+
+    /**
+     * Constructs an empty index.
+     */
+    TrigramIndex() {
+        this.postingsByTrigram = new LongObjectHashMap<>();
+        this.lowerCaseTexts = new ArrayList<>();
+    }
+
+    /**
+     * Returns whether items containing a substring can be looked up in the index, which needs the substring to be
+     * at least a trigram long.
+     *
+     * @param substring the substring to be looked up.
+     * @return true if the substring can be looked up, false otherwise.
+     */
+    static boolean canLookUp(String substring) {
+        return substring.length() >= TRIGRAM_LENGTH;
+    }
+
+    /**
+     * Adds an item to the index.
+     *
+     * @param itemNumber the number of the item, which is not indexed yet.
+     * @param lowerCaseText the indexed text field of the item, in lower case.
+     */
+    void add(int itemNumber, String lowerCaseText) {
+        while (lowerCaseTexts.size() <= itemNumber) {
+            lowerCaseTexts.add(null);
+        }
+        lowerCaseTexts.set(itemNumber, lowerCaseText);
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            long trigram = getTrigram(lowerCaseText, i);
+            IntSortedSet postings = postingsByTrigram.get(trigram);
+            if (postings == null) {
+                postings = new IntSortedSet();
+                postingsByTrigram.put(trigram, postings);
+            }
+            // Does nothing if the trigram appears more than once in the text
+            postings.add(itemNumber);
+        }
+    }
+
+    /**
+     * Removes an item from the index. Does nothing if the item is not indexed.
+     *
+     * @param itemNumber the number of the item.
+     */
+    void remove(int itemNumber) {
+        String lowerCaseText = getLowerCaseText(itemNumber);
+        if (lowerCaseText == null) {
+            return;
+        }
+        lowerCaseTexts.set(itemNumber, null);
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseText.length(); i++) {
+            long trigram = getTrigram(lowerCaseText, i);
+            IntSortedSet postings = postingsByTrigram.get(trigram);
+            if (postings != null && postings.remove(itemNumber) && postings.size() == 0) {
+                postingsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Indexes an item under the current value of its indexed field, after the field may have changed.
+     *
+     * @param itemNumber the number of the item.
+     * @param lowerCaseText the indexed text field of the item, in lower case.
+     */
+    void reindex(int itemNumber, String lowerCaseText) {
+        if (lowerCaseText.equals(getLowerCaseText(itemNumber))) {
+            return;
+        }
+        remove(itemNumber);
+        add(itemNumber, lowerCaseText);
+    }
+
+    /**
+     * Returns the indexed field of an item in lower case, as it was indexed.
+     *
+     * @param itemNumber the number of the item.
+     * @return the indexed field in lower case, or null if the item is not indexed.
+     */
+    String getLowerCaseText(int itemNumber) {
+        return itemNumber < lowerCaseTexts.size() ? lowerCaseTexts.get(itemNumber) : null;
+    }
+
+    /**
+     * Returns an upper bound on the number of items whose field contains a substring: the number of items
+     * with its rarest trigram, or the limit if that is smaller.
+     *
+     * @param lowerCaseSubstring the substring in lower case, at least a trigram long.
+     * @param limit the count at which counting stops.
+     * @return the upper bound on the number of items containing the substring.
+     */
+    int countCandidates(String lowerCaseSubstring, int limit) {
+        int fewestItems = limit;
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseSubstring.length(); i++) {
+            IntSortedSet postings = postingsByTrigram.get(getTrigram(lowerCaseSubstring, i));
+            if (postings == null) {
+                return 0;
+            }
+            fewestItems = Math.min(fewestItems, postings.size());
+        }
+        return fewestItems;
+    }
+
+    /**
+     * Passes the numbers of the items whose field contains a substring to a consumer, in ascending order.
+     *
+     * @param lowerCaseSubstring the substring in lower case, at least a trigram long.
+     * @param itemNumbers the consumer of the item numbers.
+     */
+    void forEachContaining(String lowerCaseSubstring, IntConsumer itemNumbers) {
+        ArrayList<IntSortedSet> postingsOfEachTrigram = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseSubstring.length(); i++) {
+            IntSortedSet postings = postingsByTrigram.get(getTrigram(lowerCaseSubstring, i));
+            if (postings == null) {
+                return;
+            }
+            postingsOfEachTrigram.add(postings);
+        }
+        postingsOfEachTrigram.sort(Comparator.comparingInt(IntSortedSet::size));
+
+        IntSortedSet rarestTrigramPostings = postingsOfEachTrigram.get(0);
+        for (int i = 0; i < rarestTrigramPostings.size(); i++) {
+            int itemNumber = rarestTrigramPostings.get(i);
+            if (hasEveryTrigram(itemNumber, postingsOfEachTrigram)
+                    && lowerCaseTexts.get(itemNumber).contains(lowerCaseSubstring)) {
+                itemNumbers.accept(itemNumber);
+            }
+        }
+    }
+
+    private static boolean hasEveryTrigram(int itemNumber, ArrayList<IntSortedSet> postingsOfEachTrigram) {
+        for (int i = 1; i < postingsOfEachTrigram.size(); i++) {
+            if (!postingsOfEachTrigram.get(i).contains(itemNumber)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs the three characters of text starting at a position into a key.
+     */
+    private static long getTrigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+}
@@ -1,29 +1,52 @@
 package seedu.binbash.item;
 
+import seedu.binbash.money.Money;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Abstract Item class, which represents an Item that can be stored in the ItemList (inventory).
  * Subclasses can extend Item in order to add properties that are specific to different Item types.
  */
 public abstract class Item {
+    // Items may be created on several threads while loading, so IDs are handed out atomically
+    private static final AtomicInteger nextItemId = new AtomicInteger();
+
+    // Unique among the Items created in this run of the program, and never reused. Not saved with the Item
+    private final int itemId = nextItemId.getAndIncrement();
     protected String itemName;
     protected String itemDescription;
     protected int itemQuantity;
-    protected double itemCostPrice;
+    protected long itemCostPriceInCents;
     protected int totalUnitsPurchased;
     protected int itemThreshold;
     protected boolean isAlert;
+    // Kept up to date with the name and description, for case-insensitive searches to use as they are
+    private String lowerCaseItemName;
+    private String lowerCaseItemDescription;
 
     public Item(String itemName, String itemDescription, int itemQuantity, double itemCostPrice,
                 int itemThreshold) {
         this.itemName = itemName;
         this.itemDescription = itemDescription;
+        this.lowerCaseItemName = itemName.toLowerCase();
+        this.lowerCaseItemDescription = itemDescription.toLowerCase();
         this.itemQuantity = itemQuantity;
-        this.itemCostPrice = itemCostPrice;
+        this.itemCostPriceInCents = Money.fromDollars(itemCostPrice);
         this.itemThreshold = itemThreshold;
         this.totalUnitsPurchased = itemQuantity;
         this.isAlert = false;
     }
 
+    /**
+     * Returns the ID of the Item, which no other Item created in this run of the program has.
+     *
+     * @return Item ID.
+     */
+    public int getItemId() {
+        return itemId;
+    }
+
     /**
      * Returns the name of the Item.
      *
@@ -41,6 +64,16 @@ public abstract class Item {
     public void setItemName(String itemName) {
         assert !itemName.isEmpty();
         this.itemName = itemName;
+        this.lowerCaseItemName = itemName.toLowerCase();
+    }
+
+    /**
+     * Returns the name of the Item in lower case, without converting it again.
+     *
+     * @return Item name String in lower case.
+     */
+    public String getLowerCaseItemName() {
+        return lowerCaseItemName;
     }
 
     /**
@@ -59,6 +92,16 @@ public abstract class Item {
      */
     public void setItemDescription(String itemDescription) {
         this.itemDescription = itemDescription;
+        this.lowerCaseItemDescription = itemDescription.toLowerCase();
+    }
+
+    /**
+     * Returns the description of the Item in lower case, without converting it again.
+     *
+     * @return Item description String in lower case.
+     */
+    public String getLowerCaseItemDescription() {
+        return lowerCaseItemDescription;
     }
 
     /**
@@ -83,20 +126,29 @@ public abstract class Item {
     /**
      * Returns the cost price of the Item.
      *
-     * @return Double value representing the Item cost price.
+     * @return Double value representing the Item cost price, in dollars.
      */
     public double getItemCostPrice() {
-        return itemCostPrice;
+        return Money.toDollars(itemCostPriceInCents);
+    }
+
+    /**
+     * Returns the cost price of the Item in cents, as it is held.
+     *
+     * @return Long value representing the Item cost price, in cents.
+     */
+    public long getItemCostPriceInCents() {
+        return itemCostPriceInCents;
     }
 
     /**
-     * Sets the cost price of the Item.
+     * Sets the cost price of the Item, rounded to the nearest cent.
      *
-     * @param itemCostPrice The new Item cost price.
+     * @param itemCostPrice The new Item cost price, in dollars.
      */
     public void setItemCostPrice(double itemCostPrice) {
         assert itemCostPrice >= 0.0;
-        this.itemCostPrice = itemCostPrice;
+        this.itemCostPriceInCents = Money.fromDollars(itemCostPrice);
     }
 
     /**
@@ -157,11 +209,11 @@ public abstract class Item {
         return String.format("%s" + System.lineSeparator() +
                         "\tdescription: %s" + System.lineSeparator() +
                         "\tquantity: %d" + System.lineSeparator() +
-                        "\tcost price: $%.2f",
+                        "\tcost price: $%s",
                 itemName,
                 itemDescription,
                 itemQuantity,
-                itemCostPrice
+                Money.format(itemCostPriceInCents)
         );
     }
 }
@@ -1,12 +1,14 @@
 package seedu.binbash.item;
 
+import seedu.binbash.money.Money;
+
 /**
  * Represents a Retail Item in the ItemList (inventory).
  * Retail Items are Items meant to be sold, and affect the business' profit margins.
  * Since these Items are meant to be sold, they will have a sale price.
  */
 public class RetailItem extends Item {
-    private double itemSalePrice;
+    private long itemSalePriceInCents;
     private int totalUnitsSold;
 
     public RetailItem(String itemName, String itemDescription, int itemQuantity,
@@ -17,27 +19,36 @@ public class RetailItem extends Item {
     public RetailItem(String itemName, String itemDescription, int itemQuantity,
                       double itemSalePrice, double itemCostPrice, int itemThreshold) {
         super(itemName, itemDescription, itemQuantity, itemCostPrice, itemThreshold);
-        this.itemSalePrice = itemSalePrice;
+        this.itemSalePriceInCents = Money.fromDollars(itemSalePrice);
         this.totalUnitsSold = 0;
     }
 
     /**
      * Returns the sale price of the Item.
      *
-     * @return Double value representing the Item sale price.
+     * @return Double value representing the Item sale price, in dollars.
      */
     public double getItemSalePrice() {
-        return itemSalePrice;
+        return Money.toDollars(itemSalePriceInCents);
+    }
+
+    /**
+     * Returns the sale price of the Item in cents, as it is held.
+     *
+     * @return Long value representing the Item sale price, in cents.
+     */
+    public long getItemSalePriceInCents() {
+        return itemSalePriceInCents;
     }
 
     /**
-     * Sets the sale price of the Item.
+     * Sets the sale price of the Item, rounded to the nearest cent.
      *
-     * @param itemSalePrice The new sale price of the Item.
+     * @param itemSalePrice The new sale price of the Item, in dollars.
      */
     public void setItemSalePrice(double itemSalePrice) {
         assert itemSalePrice >= 0.0;
-        this.itemSalePrice = itemSalePrice;
+        this.itemSalePriceInCents = Money.fromDollars(itemSalePrice);
     }
 
     /**
@@ -60,14 +71,14 @@ public class RetailItem extends Item {
     }
 
     /**
-     * Computes the profit margin of the current Item.
+     * Computes the profit margin of the current Item exactly, in cents.
      * Profit is calculated using the formula: ( total_revenue - total_cost )
      *
-     * @return Profit of the current Item as a Double value.
+     * @return Profit of the current Item as a Long value, in cents.
      */
-    public double getItemProfit() {
-        double totalRevenue = this.itemSalePrice * this.totalUnitsSold;
-        double totalCost = this.itemCostPrice * this.totalUnitsPurchased;
+    public long getItemProfitInCents() {
+        long totalRevenue = this.itemSalePriceInCents * this.totalUnitsSold;
+        long totalCost = this.itemCostPriceInCents * this.totalUnitsPurchased;
 
         return totalRevenue - totalCost;
     }
@@ -75,7 +86,7 @@ public class RetailItem extends Item {
     @Override
     public String toString() {
         return "[R] " + super.toString() + System.lineSeparator()
-                + String.format("\tsale price: $%.2f", itemSalePrice) + System.lineSeparator()
+                + "\tsale price: $" + Money.format(itemSalePriceInCents) + System.lineSeparator()
                 + String.format("\tthreshold: %d", itemThreshold);
     }
 }
@@ -0,0 +1,105 @@
+package seedu.binbash.logger;
+
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records over to a background thread, which publishes them to a single long-lived handler.
+ * Records wait in a bounded queue, so logging never blocks the caller: when the queue is full, the record is
+ * dropped, and the number of records dropped is logged once there is room again.
+ */
+class AsyncLogAppender {
+    private static final long POLL_INTERVAL_MILLIS = 200;
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final Handler handler;
+    private final ArrayBlockingQueue<LogRecord> queue;
+    private final AtomicLong droppedRecordCount;
+    private final Thread drainThread;
+    private volatile boolean isClosed;
+
+    /**
+     * Constructs an appender and starts the thread that publishes its records.
+     *
+     * @param handler the handler to publish records to, which is closed along with the appender.
+     * @param capacity the number of records that can wait to be published before new ones are dropped.
+     */
+    AsyncLogAppender(Handler handler, int capacity) {
+        this.handler = handler;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.droppedRecordCount = new AtomicLong();
+        this.isClosed = false;
+        this.drainThread = new Thread(this::drain, "binbash-logger");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * Queues a record to be published, or drops it if the queue is full or the appender is closed.
+     *
+     * @param record the record to be published.
+     */
+    void append(LogRecord record) {
+        if (isClosed || !queue.offer(record)) {
+            droppedRecordCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Publishes every record still in the queue, then closes the handler. Records appended afterwards are dropped.
+     */
+    void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handler.close();
+    }
+
+    private void drain() {
+        ArrayList<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (!isClosed || !queue.isEmpty()) {
+            try {
+                LogRecord record = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (record == null) {
+                    continue;
+                }
+                batch.add(record);
+            } catch (InterruptedException e) {
+                // Only close() stops this thread, and it waits for the queue to be drained first
+                continue;
+            }
+
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            publishDroppedRecordCount();
+            for (LogRecord record : batch) {
+                handler.publish(record);
+            }
+            handler.flush();
+            batch.clear();
+        }
+        publishDroppedRecordCount();
+    }
+
+    private void publishDroppedRecordCount() {
+        long count = droppedRecordCount.getAndSet(0);
+        if (count > 0) {
+            LogRecord record = new LogRecord(Level.WARNING,
+                    count + " log records were dropped as logging fell behind.");
+            record.setSourceClassName(AsyncLogAppender.class.getName());
+            handler.publish(record);
+        }
+    }
+}
@@ -4,17 +4,25 @@ import java.io.File;
 import java.io.IOException;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
+import java.util.function.Supplier;
 
 /**
  * Generates and stores logs in a text file to provide details of code execution.
+ * Log messages are written to the log file by a background thread, through a file handler that is kept open
+ * until {@link #shutdown()} is called.
+ * Messages below the minimum level are discarded before they are built, so messages that are costly to build
+ * should be passed as a format string and arguments, or as a supplier, rather than as a ready-made string.
  */
 public class BinBashLogger {
-    private static FileHandler fileHandler;
     private static final String logDirectoryPath = "./logs/";
     private static final String logFileName = "logs.txt";
+    private static final int MAX_QUEUED_RECORDS = 8192;
     private static boolean isLogFileCreated = false;
+    private static volatile AsyncLogAppender appender;
+    private static volatile Level minimumLevel = Level.INFO;
     private final Logger fileLogger;
     private final Logger consoleLogger;
 
@@ -27,8 +35,11 @@ public class BinBashLogger {
         fileLogger = Logger.getLogger(loggerName);
         consoleLogger = Logger.getLogger("consoleLogger");
 
-        if(!isLogFileCreated) {
-            createLogFile();
+        synchronized (BinBashLogger.class) {
+            if (!isLogFileCreated) {
+                createLogFile();
+                openAppender();
+            }
         }
     }
 
@@ -69,17 +80,79 @@ public class BinBashLogger {
         isLogFileCreated = true;
     }
 
+    /**
+     * Opens the file handler that every log message is written through, behind an AsyncLogAppender.
+     */
+    private void openAppender() {
+        try {
+            FileHandler fileHandler = new FileHandler(logDirectoryPath + logFileName, true);
+            fileHandler.setFormatter(new SimpleFormatter());
+            appender = new AsyncLogAppender(fileHandler, MAX_QUEUED_RECORDS);
+        } catch (IOException e) {
+            consoleLogger.log(Level.WARNING, "Could not create file handler! Unable to generate logs!");
+        }
+    }
+
+    /**
+     * Writes every log message still waiting to be written to the log file, then closes the log file.
+     * Log messages generated afterwards are discarded. This should be called before the application exits.
+     */
+    public static void shutdown() {
+        synchronized (BinBashLogger.class) {
+            if (appender != null) {
+                appender.close();
+            }
+        }
+    }
+
+    /**
+     * Sets the minimum level of the log messages stored in the log file, for every logger.
+     * Level.OFF discards every log message.
+     *
+     * @param level the lowest level of log messages to be stored.
+     */
+    public static void setMinimumLevel(Level level) {
+        minimumLevel = level;
+    }
+
+    /**
+     * Returns whether log messages of the given level would be stored in the log file.
+     *
+     * @param level the level of the log messages.
+     * @return true if log messages of the level are stored, false if they are discarded.
+     */
+    public boolean isLoggable(Level level) {
+        return level.intValue() >= minimumLevel.intValue() && appender != null && fileLogger.isLoggable(level);
+    }
+
     /**
      * Generates a log message of level "info" and stores it in the log file.
      *
      * @param message the log message to be generated and stored.
      */
     public void info(String message) {
-        if(isLogFileCreated) {
-            setFileHandler();
-            fileLogger.log(Level.INFO, message);
-            closeFileHandler();
-        }
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Generates a log message of level "info" from a format string and stores it in the log file.
+     * The message is only formatted if it will be stored.
+     *
+     * @param format the format string of the log message, as used by String.format.
+     * @param arguments the arguments referenced by the format specifiers in the format string.
+     */
+    public void info(String format, Object... arguments) {
+        log(Level.INFO, format, arguments);
+    }
+
+    /**
+     * Generates a log message of level "info" from a supplier and stores it in the log file.
+     * The supplier is only called if the message will be stored.
+     *
+     * @param messageSupplier the supplier of the log message to be generated and stored.
+     */
+    public void info(Supplier<String> messageSupplier) {
+        log(Level.INFO, messageSupplier);
     }
 
     /**
@@ -88,11 +161,28 @@ public class BinBashLogger {
      * @param message the log message to be generated and stored.
      */
     public void warning(String message) {
-        if(isLogFileCreated) {
-            setFileHandler();
-            fileLogger.log(Level.WARNING, message);
-            closeFileHandler();
-        }
+        log(Level.WARNING, message);
+    }
+
+    /**
+     * Generates a log message of level "warning" from a format string and stores it in the log file.
+     * The message is only formatted if it will be stored.
+     *
+     * @param format the format string of the log message, as used by String.format.
+     * @param arguments the arguments referenced by the format specifiers in the format string.
+     */
+    public void warning(String format, Object... arguments) {
+        log(Level.WARNING, format, arguments);
+    }
+
+    /**
+     * Generates a log message of level "warning" from a supplier and stores it in the log file.
+     * The supplier is only called if the message will be stored.
+     *
+     * @param messageSupplier the supplier of the log message to be generated and stored.
+     */
+    public void warning(Supplier<String> messageSupplier) {
+        log(Level.WARNING, messageSupplier);
     }
 
     /**
@@ -101,36 +191,60 @@ public class BinBashLogger {
      * @param message the log message to be generated and stored.
      */
     public void severe(String message) {
-        if(isLogFileCreated) {
-            setFileHandler();
-            fileLogger.log(Level.SEVERE, message);
-            closeFileHandler();
-        }
+        log(Level.SEVERE, message);
     }
 
-    public void consoleLog(String message) {
-        consoleLogger.log(Level.INFO, message);
+    /**
+     * Generates a log message of level "severe" from a format string and stores it in the log file.
+     * The message is only formatted if it will be stored.
+     *
+     * @param format the format string of the log message, as used by String.format.
+     * @param arguments the arguments referenced by the format specifiers in the format string.
+     */
+    public void severe(String format, Object... arguments) {
+        log(Level.SEVERE, format, arguments);
     }
 
     /**
-     * Creates a file handler that allows log messages be written to the log file.
+     * Generates a log message of level "severe" from a supplier and stores it in the log file.
+     * The supplier is only called if the message will be stored.
+     *
+     * @param messageSupplier the supplier of the log message to be generated and stored.
      */
-    private void setFileHandler() {
-        try {
-            fileHandler = new FileHandler(logDirectoryPath + logFileName, true);
-        } catch (IOException e) {
-            consoleLogger.log(Level.WARNING, "Could not create file handler! Unable to generate logs!");
+    public void severe(Supplier<String> messageSupplier) {
+        log(Level.SEVERE, messageSupplier);
+    }
+
+    public void consoleLog(String message) {
+        consoleLogger.log(Level.INFO, message);
+    }
+
+    private void log(Level level, String message) {
+        if (isLoggable(level)) {
+            append(level, message);
+        }
+    }
+
+    private void log(Level level, String format, Object... arguments) {
+        if (isLoggable(level)) {
+            append(level, String.format(format, arguments));
         }
+    }
 
-        fileHandler.setFormatter(new SimpleFormatter());
-        fileLogger.setUseParentHandlers(false);
-        fileLogger.addHandler(fileHandler);
+    private void log(Level level, Supplier<String> messageSupplier) {
+        if (isLoggable(level)) {
+            append(level, messageSupplier.get());
+        }
     }
 
     /**
-     * Closes the file handler to allow other loggers to access the log file.
+     * Queues a log message to be written to the log file.
      */
-    private void closeFileHandler() {
-        fileHandler.close();
+    private void append(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName(fileLogger.getName());
+        // Set here, as the record is formatted on another thread that the caller cannot be found from
+        record.setSourceClassName(fileLogger.getName());
+        appender.append(record);
     }
 }
@@ -0,0 +1,101 @@
+package seedu.binbash.money;
+
+/**
+ * Helpers for amounts of money held as a whole number of cents in a long, so that prices, revenue and costs are
+ * added up exactly and compared without rounding error, without allocating an object for each amount.
+ * Amounts given in dollars as a double are rounded to the nearest cent once, where they enter an Item.
+ * Amounts of up to about 92 quadrillion dollars are held exactly.
+ */
+public final class Money {
+    public static final int CENTS_PER_DOLLAR = 100;
+
+    private Money() {
+    }
+
+    /**
+     * Returns an amount in dollars as a number of cents, rounded to the nearest cent.
+     *
+     * @param dollars the amount in dollars.
+     * @return the amount in cents, or Long.MIN_VALUE or Long.MAX_VALUE if it is too large to be held.
+     */
+    public static long fromDollars(double dollars) {
+        return Math.round(dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Returns a number of cents as an amount in dollars. Converting the result back with fromDollars returns
+     * the same number of cents.
+     *
+     * @param cents the amount in cents.
+     * @return the double nearest to the amount in dollars.
+     */
+    public static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Returns the least number of cents whose amount in dollars is at least a given amount.
+     *
+     * @param dollars the amount in dollars.
+     * @return the least such number of cents, or Long.MAX_VALUE if there is none.
+     */
+    public static long ceilCents(double dollars) {
+        if (Double.isNaN(dollars)) {
+            return Long.MAX_VALUE;
+        }
+        long cents = fromDollars(dollars);
+        if (cents != Long.MAX_VALUE && toDollars(cents) < dollars) {
+            cents++;
+        }
+        return cents;
+    }
+
+    /**
+     * Returns the greatest number of cents whose amount in dollars is at most a given amount.
+     *
+     * @param dollars the amount in dollars.
+     * @return the greatest such number of cents, or Long.MIN_VALUE if there is none.
+     */
+    public static long floorCents(double dollars) {
+        if (Double.isNaN(dollars)) {
+            return Long.MIN_VALUE;
+        }
+        long cents = fromDollars(dollars);
+        if (cents != Long.MIN_VALUE && toDollars(cents) > dollars) {
+            cents--;
+        }
+        return cents;
+    }
+
+    /**
+     * Returns an amount with two decimal places, as the format {@code %.2f} writes it in dollars.
+     *
+     * @param cents the amount in cents.
+     * @return the amount in dollars, with two decimal places.
+     */
+    public static String format(long cents) {
+        return appendTo(new StringBuilder(), cents).toString();
+    }
+
+    /**
+     * Appends an amount with two decimal places, as the format {@code %.2f} writes it in dollars, without
+     * formatting it into a String first.
+     *
+     * @param output the StringBuilder to append the amount to.
+     * @param cents the amount in cents.
+     * @return the given StringBuilder.
+     */
+    public static StringBuilder appendTo(StringBuilder output, long cents) {
+        if (cents < 0) {
+            output.append('-');
+        }
+        // Taken from the quotient and remainder, which cannot overflow even for Long.MIN_VALUE
+        long dollars = Math.abs(cents / CENTS_PER_DOLLAR);
+        int remainingCents = (int) Math.abs(cents % CENTS_PER_DOLLAR);
+        output.append(dollars).append('.');
+        if (remainingCents < 10) {
+            output.append('0');
+        }
+        return output.append(remainingCents);
+    }
+}
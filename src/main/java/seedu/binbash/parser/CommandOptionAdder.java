@@ -207,6 +207,27 @@ public class CommandOptionAdder {
         return this;
     }
 
+    /**
+     * Adds the fuzzy option and its description to options and optionDescriptions respectively.
+     *
+     * @param isRequired Whether this option needs to be specified to its parent command.
+     * @param description A brief description of the option.
+     * @return The current instance of CommandOptionAdder.
+     */
+    CommandOptionAdder addFuzzyOption(boolean isRequired, String description) {
+        Option fuzzyOption = Option.builder("f")
+                .hasArg(true)
+                .required(isRequired)
+                .longOpt("fuzzy")
+                .desc(description)
+                .argName("distance")
+                .build();
+        assert !options.hasOption("f");
+        options.addOption(fuzzyOption);
+        optionDescriptions.add(new OptDesc("-f", "--fuzzy", description));
+        return this;
+    }
+
     /**
      * Adds the index option and its description to options and optionDescriptions respectively.
      *
@@ -373,4 +394,46 @@ public class CommandOptionAdder {
         optionDescriptions.add(new OptDesc("-l", "--list", description));
         return this;
     }
+
+    /**
+     * Adds the page option and its description to options and optionDescriptions respectively.
+     *
+     * @param isRequired Whether this option needs to be specified to its parent command.
+     * @param description A brief description of the option.
+     * @return The current instance of CommandOptionAdder.
+     */
+    CommandOptionAdder addPageOption(boolean isRequired, String description) {
+        Option pageOption = Option.builder("pg")
+                .hasArg()
+                .argName("page")
+                .required(isRequired)
+                .longOpt("page")
+                .desc(description)
+                .build();
+        assert !options.hasOption("pg");
+        options.addOption(pageOption);
+        optionDescriptions.add(new OptDesc("-pg", "--page", description));
+        return this;
+    }
+
+    /**
+     * Adds the page size option and its description to options and optionDescriptions respectively.
+     *
+     * @param isRequired Whether this option needs to be specified to its parent command.
+     * @param description A brief description of the option.
+     * @return The current instance of CommandOptionAdder.
+     */
+    CommandOptionAdder addPageSizeOption(boolean isRequired, String description) {
+        Option pageSizeOption = Option.builder("ps")
+                .hasArg()
+                .argName("size")
+                .required(isRequired)
+                .longOpt("page-size")
+                .desc(description)
+                .build();
+        assert !options.hasOption("ps");
+        options.addOption(pageSizeOption);
+        optionDescriptions.add(new OptDesc("-ps", "--page-size", description));
+        return this;
+    }
 }
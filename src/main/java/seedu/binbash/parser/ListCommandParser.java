@@ -12,6 +12,7 @@ import seedu.binbash.enums.SortOptionEnum;
  * Parses command line arguments for creating a ListCommand.
  */
 public class ListCommandParser extends DefaultParser {
+    static final int DEFAULT_PAGE_SIZE = 20;
 
     /**
      * Creates a new ListCommandParser.
@@ -20,6 +21,9 @@ public class ListCommandParser extends DefaultParser {
         options = new Options();
         new CommandOptionAdder(options)
                 .addListTypeOptionGroup()
+                .addListOption(false, "Lists the first n items")
+                .addPageOption(false, "Print only this page of the list")
+                .addPageSizeOption(false, "Number of items on each page, " + DEFAULT_PAGE_SIZE + " if not given")
                 .saveCommandOptionDescriptions("list");
     }
 
@@ -27,25 +31,51 @@ public class ListCommandParser extends DefaultParser {
      * Parses the command line arguments to create a ListCommand.
      *
      * @param commandArgs The command arguments to parse.
-     * @return A ListCommand with the specified sort option, or a default ListCommand if no sort option is specified.
+     * @return A ListCommand with the specified sort option, or a default ListCommand if no sort option is specified,
+     *     printing only the specified page if a page or page size is specified.
      * @throws ParseException If there is an error parsing the command arguments.
      */
     public ListCommand parse(String[] commandArgs) throws ParseException {
         CommandLine commandLine = super.parse(options, commandArgs);
         Parser.checkDuplicateOption(commandLine.getOptions());
 
+        ListCommand listCommand;
         if (commandLine.hasOption("cost")) {
-            return new ListCommand(SortOptionEnum.COST);
+            listCommand = new ListCommand(SortOptionEnum.COST);
+        } else if (commandLine.hasOption("expiry")) {
+            listCommand = new ListCommand(SortOptionEnum.EXPIRY);
+        } else if (commandLine.hasOption("sale")) {
+            listCommand = new ListCommand(SortOptionEnum.SALE);
+        } else if (commandLine.hasOption("profit")) {
+            listCommand = new ListCommand(SortOptionEnum.PROFIT);
+        } else {
+            listCommand = new ListCommand();
         }
-        if (commandLine.hasOption("expiry")) {
-            return new ListCommand(SortOptionEnum.EXPIRY);
-        }
-        if (commandLine.hasOption("sale")) {
-            return new ListCommand(SortOptionEnum.SALE);
+
+        if (commandLine.hasOption("list")) {
+            int numberOfResults = Parser.parseIntOptionValue(commandLine.getOptionValue("list"), "number of results");
+            if (numberOfResults <= 0) {
+                throw new ParseException("number of results must be positive");
+            }
+            listCommand.setNumberOfResults(numberOfResults);
         }
-        if (commandLine.hasOption("profit")) {
-            return new ListCommand(SortOptionEnum.PROFIT);
+        if (commandLine.hasOption("page") || commandLine.hasOption("page-size")) {
+            int pageNumber = 1;
+            if (commandLine.hasOption("page")) {
+                pageNumber = Parser.parseIntOptionValue(commandLine.getOptionValue("page"), "page number");
+            }
+            int pageSize = DEFAULT_PAGE_SIZE;
+            if (commandLine.hasOption("page-size")) {
+                pageSize = Parser.parseIntOptionValue(commandLine.getOptionValue("page-size"), "page size");
+            }
+            if (pageNumber <= 0) {
+                throw new ParseException("page number must be positive");
+            }
+            if (pageSize <= 0) {
+                throw new ParseException("page size must be positive");
+            }
+            listCommand.setPage(pageNumber, pageSize);
         }
-        return new ListCommand();
+        return listCommand;
     }
 }
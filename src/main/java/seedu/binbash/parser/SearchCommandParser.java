@@ -16,6 +16,7 @@ import java.time.LocalDate;
 public class SearchCommandParser extends DefaultParser {
     private static final int RANGE_ARGUMENT_LOWER_BOUND = 0;
     private static final int RANGE_ARGUMENT_UPPER_BOUND = 1;
+    private static final int MAX_FUZZY_DISTANCE = 3;
 
     /**
      * Creates a new SearchCommandParser with the necessary options and option descriptions.
@@ -24,6 +25,7 @@ public class SearchCommandParser extends DefaultParser {
         options = new Options();
         new CommandOptionAdder(options)
             .addNameOption(false, "Search by name")
+            .addFuzzyOption(false, "Search for names within this many edits of the name")
             .addDescriptionOption(false, "Search by description")
             .addQuantityOption(false, "Search by quantity")
             .addCostPriceOption(false, "Search by cost-price")
@@ -50,6 +52,9 @@ public class SearchCommandParser extends DefaultParser {
             String nameField = String.join(" ", commandLine.getOptionValues("name"));
             searchCommand.setNameField(nameField);
         }
+        if (commandLine.hasOption("fuzzy")) {
+            searchCommand.setNameDistance(parseFuzzyDistance(commandLine));
+        }
         if (commandLine.hasOption("description")) {
             String descriptionField = String.join(" ", commandLine.getOptionValues("description"));
             searchCommand.setDescriptionField(descriptionField);
@@ -80,6 +85,17 @@ public class SearchCommandParser extends DefaultParser {
         return searchCommand;
     }
 
+    private int parseFuzzyDistance(CommandLine commandLine) throws ParseException {
+        if (!commandLine.hasOption("name")) {
+            throw new ParseException("fuzzy option requires a name to search by");
+        }
+        int fuzzyDistance = Parser.parseIntOptionValue(commandLine.getOptionValue("fuzzy"), "fuzzy distance");
+        if (fuzzyDistance < 1 || fuzzyDistance > MAX_FUZZY_DISTANCE) {
+            throw new ParseException("fuzzy distance must be between 1 and " + MAX_FUZZY_DISTANCE);
+        }
+        return fuzzyDistance;
+    }
+
     /**
      * Parses the range argument for quantity, cost price, sale price, or expiry date options.
      *
@@ -0,0 +1,340 @@
+package seedu.binbash.storage;
+
+import seedu.binbash.exceptions.BinBashException;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+import seedu.binbash.item.PerishableOperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+import seedu.binbash.item.RetailItem;
+import seedu.binbash.money.Money;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Reads and writes the binary data file format, which stores each field of the items in a column of its own
+ * so that the data file can be loaded straight from a memory-mapped buffer, without any text parsing.
+ * All values are big-endian, and the data file consists of, in order:
+ * <ul>
+ *     <li>a header holding the magic number, format version, number of items and number of strings</li>
+ *     <li>a string table of every distinct item name and description, each stored as its length in bytes
+ *     followed by its UTF-8 bytes</li>
+ *     <li>one column per field, holding a fixed-width value for every item: the item type (byte), name and
+ *     description (int indexes into the string table), quantity (int), cost price (long cents), total units
+ *     purchased (int), threshold (int), expiration date (long epoch day), sale price (long cents) and
+ *     total units sold (int)</li>
+ * </ul>
+ * Fields that an item type does not have are stored as zero. Data files of format version 1, which stored the
+ * prices as doubles in dollars, are still read, rounding the prices to the nearest cent.
+ */
+class BinarySnapshot {
+    static final int MAGIC_NUMBER = 0x42424954; // "BBIT"
+    static final int FORMAT_VERSION = 2;
+    static final int DOUBLE_PRICES_FORMAT_VERSION = 1;
+
+    // The same for both format versions, as a double takes as many bytes as a long
+    private static final int BYTES_PER_ITEM = 1 + 6 * Integer.BYTES + 3 * Long.BYTES;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final byte OPERATIONAL_ITEM = 0;
+    private static final byte PERISHABLE_OPERATIONAL_ITEM = 1;
+    private static final byte RETAIL_ITEM = 2;
+    private static final byte PERISHABLE_RETAIL_ITEM = 3;
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Writes the list of items to the channel in the binary data file format. Null items are skipped.
+     *
+     * @param channel The channel to write the data file to.
+     * @param itemList The list of items to be written.
+     * @throws IOException if an error occurs during writing.
+     */
+    static void write(WritableByteChannel channel, List<Item> itemList) throws IOException {
+        ArrayList<Item> items = new ArrayList<>(itemList.size());
+        for (Item item : itemList) {
+            if (item != null) {
+                items.add(item);
+            }
+        }
+
+        HashMap<String, Integer> stringIndexes = new HashMap<>();
+        ArrayList<String> strings = new ArrayList<>();
+        int[] nameIndexes = new int[items.size()];
+        int[] descriptionIndexes = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            nameIndexes[i] = indexString(items.get(i).getItemName(), stringIndexes, strings);
+            descriptionIndexes[i] = indexString(items.get(i).getItemDescription(), stringIndexes, strings);
+        }
+
+        ChannelOutput output = new ChannelOutput(channel);
+        output.putInt(MAGIC_NUMBER)
+                .putInt(FORMAT_VERSION)
+                .putInt(items.size())
+                .putInt(strings.size());
+        for (String string : strings) {
+            output.putString(string);
+        }
+
+        for (Item item : items) {
+            output.putByte(getItemType(item));
+        }
+        for (int nameIndex : nameIndexes) {
+            output.putInt(nameIndex);
+        }
+        for (int descriptionIndex : descriptionIndexes) {
+            output.putInt(descriptionIndex);
+        }
+        for (Item item : items) {
+            output.putInt(item.getItemQuantity());
+        }
+        for (Item item : items) {
+            output.putLong(item.getItemCostPriceInCents());
+        }
+        for (Item item : items) {
+            output.putInt(item.getTotalUnitsPurchased());
+        }
+        for (Item item : items) {
+            output.putInt(item.getItemThreshold());
+        }
+        for (Item item : items) {
+            output.putLong(getExpirationEpochDay(item));
+        }
+        for (Item item : items) {
+            output.putLong(item instanceof RetailItem ? ((RetailItem) item).getItemSalePriceInCents() : 0);
+        }
+        for (Item item : items) {
+            output.putInt(item instanceof RetailItem ? ((RetailItem) item).getTotalUnitsSold() : 0);
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a list of items from a data file in the binary data file format, by mapping it into memory.
+     *
+     * @param path The path of the data file.
+     * @return A list of items read from the data file.
+     * @throws BinBashException if the data file is not a valid binary data file.
+     * @throws IOException if an error occurs during reading.
+     */
+    static ArrayList<Item> read(Path path) throws BinBashException, IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new BinBashException("Binary data file is too large to be loaded.");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return readItems(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException
+                | DateTimeException e) {
+            throw new BinBashException("Binary data file is corrupted.");
+        }
+    }
+
+    private static ArrayList<Item> readItems(ByteBuffer buffer) throws BinBashException {
+        if (buffer.getInt() != MAGIC_NUMBER) {
+            throw new BinBashException("Binary data file is corrupted.");
+        }
+        int formatVersion = buffer.getInt();
+        if (formatVersion != FORMAT_VERSION && formatVersion != DOUBLE_PRICES_FORMAT_VERSION) {
+            throw new BinBashException("Binary data file is corrupted.");
+        }
+
+        int itemCount = buffer.getInt();
+        int stringCount = buffer.getInt();
+        // Checked before anything is allocated, so that a corrupted count cannot exhaust the memory
+        if (stringCount < 0 || stringCount > buffer.remaining() / Integer.BYTES) {
+            throw new BinBashException("Binary data file is corrupted.");
+        }
+
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new BinBashException("Binary data file is corrupted.");
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        if (itemCount < 0 || (long) itemCount * BYTES_PER_ITEM != buffer.remaining()) {
+            throw new BinBashException("Binary data file is corrupted.");
+        }
+
+        byte[] itemTypes = new byte[itemCount];
+        buffer.get(itemTypes);
+        int[] nameIndexes = readIntColumn(buffer, itemCount);
+        int[] descriptionIndexes = readIntColumn(buffer, itemCount);
+        int[] quantities = readIntColumn(buffer, itemCount);
+        long[] costPrices = readPriceColumn(buffer, itemCount, formatVersion);
+        int[] totalUnitsPurchased = readIntColumn(buffer, itemCount);
+        int[] thresholds = readIntColumn(buffer, itemCount);
+        long[] expirationEpochDays = readLongColumn(buffer, itemCount);
+        long[] salePrices = readPriceColumn(buffer, itemCount, formatVersion);
+        int[] totalUnitsSold = readIntColumn(buffer, itemCount);
+
+        ArrayList<Item> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Item item = createItem(itemTypes[i], strings[nameIndexes[i]], strings[descriptionIndexes[i]],
+                    quantities[i], costPrices[i], thresholds[i], expirationEpochDays[i], salePrices[i]);
+            item.setTotalUnitsPurchased(totalUnitsPurchased[i]);
+            if (item instanceof RetailItem) {
+                ((RetailItem) item).setTotalUnitsSold(totalUnitsSold[i]);
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private static Item createItem(byte itemType, String name, String description, int quantity,
+            long costPriceInCents, int threshold, long expirationEpochDay, long salePriceInCents) {
+        // Items take prices in dollars, which they round back to exactly the same number of cents
+        double costPrice = Money.toDollars(costPriceInCents);
+        double salePrice = Money.toDollars(salePriceInCents);
+        switch (itemType) {
+        case OPERATIONAL_ITEM:
+            return new OperationalItem(name, description, quantity, costPrice, threshold);
+        case PERISHABLE_OPERATIONAL_ITEM:
+            return new PerishableOperationalItem(name, description, quantity,
+                    LocalDate.ofEpochDay(expirationEpochDay), costPrice, threshold);
+        case RETAIL_ITEM:
+            return new RetailItem(name, description, quantity, salePrice, costPrice, threshold);
+        case PERISHABLE_RETAIL_ITEM:
+            return new PerishableRetailItem(name, description, quantity,
+                    LocalDate.ofEpochDay(expirationEpochDay), salePrice, costPrice, threshold);
+        default:
+            throw new IllegalArgumentException("Unknown item type: " + itemType);
+        }
+    }
+
+    private static int[] readIntColumn(ByteBuffer buffer, int length) {
+        int[] column = new int[length];
+        buffer.asIntBuffer().get(column);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return column;
+    }
+
+    private static long[] readLongColumn(ByteBuffer buffer, int length) {
+        long[] column = new long[length];
+        buffer.asLongBuffer().get(column);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return column;
+    }
+
+    /**
+     * Reads a column of prices in cents, which format version 1 stored as doubles in dollars.
+     */
+    private static long[] readPriceColumn(ByteBuffer buffer, int length, int formatVersion) {
+        if (formatVersion != DOUBLE_PRICES_FORMAT_VERSION) {
+            return readLongColumn(buffer, length);
+        }
+        long[] column = new long[length];
+        for (int i = 0; i < length; i++) {
+            column[i] = Money.fromDollars(buffer.getDouble());
+        }
+        return column;
+    }
+
+    private static int indexString(String string, HashMap<String, Integer> stringIndexes, List<String> strings) {
+        Integer index = stringIndexes.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringIndexes.put(string, index);
+            strings.add(string);
+        }
+        return index;
+    }
+
+    private static byte getItemType(Item item) {
+        if (item instanceof PerishableRetailItem) {
+            return PERISHABLE_RETAIL_ITEM;
+        } else if (item instanceof RetailItem) {
+            return RETAIL_ITEM;
+        } else if (item instanceof PerishableOperationalItem) {
+            return PERISHABLE_OPERATIONAL_ITEM;
+        } else if (item instanceof OperationalItem) {
+            return OPERATIONAL_ITEM;
+        }
+        throw new IllegalArgumentException("Unknown item type: " + item.getClass().getSimpleName());
+    }
+
+    private static long getExpirationEpochDay(Item item) {
+        if (item instanceof PerishableRetailItem) {
+            return ((PerishableRetailItem) item).getLocalDateItemExpirationDate().toEpochDay();
+        } else if (item instanceof PerishableOperationalItem) {
+            return ((PerishableOperationalItem) item).getLocalDateItemExpirationDate().toEpochDay();
+        }
+        return 0;
+    }
+
+    /**
+     * A fixed-size buffer that values are put into, which is written out to the channel whenever it fills up.
+     */
+    private static class ChannelOutput {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        ChannelOutput(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        ChannelOutput putByte(byte value) throws IOException {
+            ensureRemaining(Byte.BYTES);
+            buffer.put(value);
+            return this;
+        }
+
+        ChannelOutput putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+            return this;
+        }
+
+        ChannelOutput putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+            return this;
+        }
+
+        ChannelOutput putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+
+            int offset = 0;
+            while (offset < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+            return this;
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int byteCount) throws IOException {
+            if (buffer.remaining() < byteCount) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.binbash.storage;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Reads the pipe-delimited fields of a line in the storage format one after another, parsing numbers and dates
+ * directly from the line instead of splitting it into substrings first.
+ * The fields are those {@code line.split("\\|")} would return: trailing empty fields do not exist, and reading
+ * past the last field throws an ArrayIndexOutOfBoundsException. Numbers and dates in the plain form BinBash writes
+ * are parsed without allocating; anything else is handed to Integer.parseInt, Double.parseDouble and
+ * LocalDate.parse, so that exactly the same fields are accepted and rejected as with those methods.
+ */
+class LineTokenizer {
+    private static final char DELIMITER = '|';
+    private static final int MAX_FAST_INT_DIGITS = 9;
+    private static final int MAX_FAST_DOUBLE_DIGITS = 15;
+    private static final int DATE_LENGTH = 10;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private final String line;
+    private final int fieldCount;
+    private int nextFieldIndex;
+    private int nextFieldStart;
+    private int fieldStart;
+    private int fieldEnd;
+
+    LineTokenizer(String line) {
+        this.line = line;
+        this.fieldCount = countFields(line);
+        this.nextFieldIndex = 0;
+        this.nextFieldStart = 0;
+    }
+
+    /**
+     * Returns the number of fields {@code line.split("\\|")} would return.
+     */
+    static int countFields(String line) {
+        int lastNonEmptyField = -1;
+        int fieldIndex = 0;
+        int start = 0;
+
+        for (int i = line.indexOf(DELIMITER); i >= 0; i = line.indexOf(DELIMITER, start)) {
+            if (i > start) {
+                lastNonEmptyField = fieldIndex;
+            }
+            fieldIndex++;
+            start = i + 1;
+        }
+
+        if (fieldIndex == 0) {
+            return 1;
+        }
+        return line.length() > start ? fieldIndex + 1 : lastNonEmptyField + 1;
+    }
+
+    /**
+     * Reads the next field and returns whichever of the given strings it is equal to, or null if it is none of them.
+     */
+    String nextFieldAsOneOf(String... candidates) {
+        advance();
+        int length = fieldEnd - fieldStart;
+        for (String candidate : candidates) {
+            if (candidate.length() == length && line.startsWith(candidate, fieldStart)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next field as a string.
+     */
+    String nextString() {
+        advance();
+        return line.substring(fieldStart, fieldEnd);
+    }
+
+    /**
+     * Reads the next field without parsing it.
+     */
+    void skipField() {
+        advance();
+    }
+
+    /**
+     * Reads the next field as an int, accepting exactly what Integer.parseInt accepts.
+     */
+    int nextInt() {
+        advance();
+        int i = fieldStart;
+        boolean isNegative = false;
+        if (i < fieldEnd && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+            isNegative = line.charAt(i) == '-';
+            i++;
+        }
+
+        int digitCount = fieldEnd - i;
+        if (digitCount == 0 || digitCount > MAX_FAST_INT_DIGITS) {
+            return Integer.parseInt(currentField());
+        }
+
+        int value = 0;
+        for (; i < fieldEnd; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Integer.parseInt(currentField());
+            }
+            value = value * 10 + digit;
+        }
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Reads the next field as a double, accepting exactly what Double.parseDouble accepts.
+     * A plain decimal of at most 15 digits is converted by a single division of two doubles that are exact,
+     * which IEEE 754 rounds correctly, so the result is the same as that of Double.parseDouble.
+     */
+    double nextDouble() {
+        advance();
+        int i = fieldStart;
+        boolean isNegative = false;
+        if (i < fieldEnd && (line.charAt(i) == '-' || line.charAt(i) == '+')) {
+            isNegative = line.charAt(i) == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digitCount = 0;
+        int fractionDigitCount = 0;
+        boolean hasDecimalPoint = false;
+        for (; i < fieldEnd; i++) {
+            char c = line.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                digitCount++;
+                if (hasDecimalPoint) {
+                    fractionDigitCount++;
+                }
+            } else if (c == '.' && !hasDecimalPoint) {
+                hasDecimalPoint = true;
+            } else {
+                return Double.parseDouble(currentField());
+            }
+        }
+
+        if (digitCount == 0 || digitCount > MAX_FAST_DOUBLE_DIGITS) {
+            return Double.parseDouble(currentField());
+        }
+        double value = mantissa / POWERS_OF_TEN[fractionDigitCount];
+        return isNegative ? -value : value;
+    }
+
+    /**
+     * Reads the next field as a date in the dd-MM-yyyy format, accepting exactly what LocalDate.parse accepts
+     * with the given formatter, which must be the default smart resolving formatter for that pattern.
+     * As with that formatter, a day past the end of the month is changed to the last day of the month.
+     */
+    LocalDate nextDate(DateTimeFormatter formatter) {
+        advance();
+        if (fieldEnd - fieldStart != DATE_LENGTH || line.charAt(fieldStart + 2) != '-'
+                || line.charAt(fieldStart + 5) != '-') {
+            return LocalDate.parse(currentField(), formatter);
+        }
+
+        int day = parseDigits(fieldStart, fieldStart + 2);
+        int month = parseDigits(fieldStart + 3, fieldStart + 5);
+        int year = parseDigits(fieldStart + 6, fieldEnd);
+        if (day < 1 || day > 31 || month < 1 || month > 12 || year < 1) {
+            return LocalDate.parse(currentField(), formatter);
+        }
+
+        if (month == 4 || month == 6 || month == 9 || month == 11) {
+            day = Math.min(day, 30);
+        } else if (month == 2) {
+            day = Math.min(day, Year.isLeap(year) ? 29 : 28);
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    /**
+     * Returns the value of the ASCII digits between the given indexes, or -1 if any of them is not one.
+     */
+    private int parseDigits(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private String currentField() {
+        return line.substring(fieldStart, fieldEnd);
+    }
+
+    private void advance() {
+        if (nextFieldIndex >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException("Index " + nextFieldIndex + " out of bounds for length "
+                    + fieldCount);
+        }
+
+        int delimiterIndex = line.indexOf(DELIMITER, nextFieldStart);
+        fieldStart = nextFieldStart;
+        fieldEnd = delimiterIndex < 0 ? line.length() : delimiterIndex;
+        nextFieldStart = fieldEnd + 1;
+        nextFieldIndex++;
+    }
+}
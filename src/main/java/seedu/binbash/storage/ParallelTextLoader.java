@@ -0,0 +1,184 @@
+package seedu.binbash.storage;
+
+import seedu.binbash.item.Item;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Loads the items in a text data file by splitting it into chunks that end on a line break, and parsing the
+ * chunks in parallel on the common fork-join pool. The items are returned in the order of their lines.
+ * Lines are separated by "\n", "\r\n" or "\r", as with {@code Files.readAllLines}, and the data file is
+ * expected to be in a charset where a "\n" byte is never part of another character, such as UTF-8.
+ */
+class ParallelTextLoader {
+    private static final long MIN_CHUNK_SIZE = 1 << 20;
+    private static final long MAX_CHUNK_SIZE = 64 << 20;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final Function<String, Item> lineConverter;
+    private final Charset charset;
+    private boolean isCorrupted;
+
+    /**
+     * Constructs a loader that converts each line to an item with the given function.
+     *
+     * @param lineConverter A function that returns the item a line represents, or null if the line is invalid.
+     * @param charset The charset the data file is written in.
+     */
+    ParallelTextLoader(Function<String, Item> lineConverter, Charset charset) {
+        this.lineConverter = lineConverter;
+        this.charset = charset;
+        this.isCorrupted = false;
+    }
+
+    /**
+     * Returns whether any line loaded so far could not be converted to an item.
+     */
+    boolean isCorrupted() {
+        return isCorrupted;
+    }
+
+    /**
+     * Loads the items in the data file. Lines that cannot be converted to an item are left out,
+     * and mark the data file as corrupted.
+     *
+     * @param path The path of the data file.
+     * @return A list of items, in the order of the lines they were converted from.
+     * @throws IOException if an error occurs during file reading.
+     */
+    ArrayList<Item> load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] chunkBoundaries = findChunkBoundaries(channel);
+            List<ParsedChunk> parsedChunks;
+
+            if (chunkBoundaries.length == 2) {
+                parsedChunks = List.of(parseChunk(channel, chunkBoundaries[0], chunkBoundaries[1]));
+            } else {
+                parsedChunks = IntStream.range(0, chunkBoundaries.length - 1)
+                        .parallel()
+                        .mapToObj(i -> parseChunkUnchecked(channel, chunkBoundaries[i], chunkBoundaries[i + 1]))
+                        .collect(Collectors.toList());
+            }
+            return mergeChunks(parsedChunks);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private ArrayList<Item> mergeChunks(List<ParsedChunk> parsedChunks) {
+        int itemCount = 0;
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            itemCount += parsedChunk.items.size();
+        }
+
+        ArrayList<Item> items = new ArrayList<>(itemCount);
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            items.addAll(parsedChunk.items);
+            if (parsedChunk.isCorrupted) {
+                isCorrupted = true;
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Returns the positions the chunks start at, followed by the size of the file. Every chunk but the last
+     * ends right after a "\n", so that no line is split across two chunks.
+     */
+    private long[] findChunkBoundaries(FileChannel channel) throws IOException {
+        long fileSize = channel.size();
+        long maxChunkCount = ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        long chunkCount = Math.max(1, Math.max(Math.min(fileSize / MIN_CHUNK_SIZE, maxChunkCount),
+                (fileSize + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE));
+
+        long[] chunkBoundaries = new long[(int) chunkCount + 1];
+        for (int i = 1; i < chunkCount; i++) {
+            long nominalBoundary = fileSize / chunkCount * i;
+            chunkBoundaries[i] = Math.max(chunkBoundaries[i - 1], findNextLineStart(channel, nominalBoundary));
+        }
+        chunkBoundaries[(int) chunkCount] = fileSize;
+        return chunkBoundaries;
+    }
+
+    private long findNextLineStart(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long scanPosition = position;
+
+        while (channel.read(buffer, scanPosition) > 0) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                if (buffer.get() == '\n') {
+                    return scanPosition + buffer.position();
+                }
+            }
+            scanPosition += buffer.limit();
+            buffer.clear();
+        }
+        return channel.size();
+    }
+
+    private ParsedChunk parseChunkUnchecked(FileChannel channel, long start, long end) {
+        try {
+            return parseChunk(channel, start, end);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ParsedChunk parseChunk(FileChannel channel, long start, long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        int bytesRead = 0;
+        while (buffer.hasRemaining() && bytesRead >= 0) {
+            bytesRead = channel.read(buffer, start + buffer.position());
+        }
+
+        String text = new String(buffer.array(), 0, buffer.position(), charset);
+        ParsedChunk parsedChunk = new ParsedChunk();
+        int lineStart = 0;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r') {
+                parsedChunk.addLine(text.substring(lineStart, i));
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') {
+                    i++;
+                }
+                lineStart = i + 1;
+            }
+        }
+        if (lineStart < text.length()) {
+            parsedChunk.addLine(text.substring(lineStart));
+        }
+        return parsedChunk;
+    }
+
+    /**
+     * The items converted from the lines of one chunk, and whether any of its lines could not be converted.
+     */
+    private class ParsedChunk {
+        private final ArrayList<Item> items = new ArrayList<>();
+        private boolean isCorrupted = false;
+
+        void addLine(String line) {
+            Item item = lineConverter.apply(line);
+            if (item != null) {
+                items.add(item);
+            } else {
+                isCorrupted = true;
+            }
+        }
+    }
+}
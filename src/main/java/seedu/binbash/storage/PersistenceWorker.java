@@ -0,0 +1,186 @@
+package seedu.binbash.storage;
+
+import seedu.binbash.inventory.ItemChange;
+import seedu.binbash.inventory.ItemList;
+import seedu.binbash.logger.BinBashLogger;
+
+import java.util.List;
+
+/**
+ * Persists the changes made to an ItemList on a background thread, so that the user never waits on disk I/O
+ * after a command. Bursts of changes are coalesced into a single save, made no later than a fixed delay
+ * after the first change of the burst. With PERIODIC durability, journal entries left unforced by a save are
+ * forced once they are due, even if no further changes are made.
+ * Commands must be executed while holding the lock of the ItemList, which the worker also holds while
+ * capturing the changes to save.
+ */
+public class PersistenceWorker {
+    private static final long COALESCE_DELAY_MILLIS = 200;
+
+    private final Storage storage;
+    private final ItemList itemList;
+    private final Thread workerThread;
+    private final BinBashLogger logger;
+    private boolean isDirty;
+    private boolean isShutDown;
+    private boolean hasFailedSave;
+
+    public PersistenceWorker(Storage storage, ItemList itemList) {
+        this.storage = storage;
+        this.itemList = itemList;
+        this.logger = new BinBashLogger(PersistenceWorker.class.getName());
+        this.workerThread = new Thread(this::run, "binbash-persistence");
+        this.workerThread.setDaemon(true);
+    }
+
+    /**
+     * Starts the background thread that saves changes.
+     */
+    public void start() {
+        workerThread.start();
+    }
+
+    /**
+     * Notifies the worker that the ItemList has changes to be saved.
+     */
+    public synchronized void markDirty() {
+        isDirty = true;
+        notifyAll();
+    }
+
+    /**
+     * Stops the background thread, then saves any changes it did not get to and closes the Storage.
+     * Calling this more than once has no further effect.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            if (isShutDown) {
+                return;
+            }
+            isShutDown = true;
+            notifyAll();
+        }
+
+        logger.info("Shutting down persistence worker...");
+        try {
+            if (workerThread.isAlive()) {
+                workerThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        persist();
+        storage.close();
+    }
+
+    private void run() {
+        while (!isShutDown()) {
+            long millisUntilForceDue = storage.getMillisUntilJournalForceDue();
+            if (awaitChanges(millisUntilForceDue)) {
+                awaitRestOfBurst();
+                persist();
+            } else if (millisUntilForceDue != Storage.NO_FORCE_DUE) {
+                forceJournal();
+            }
+        }
+    }
+
+    private synchronized boolean isShutDown() {
+        return isShutDown;
+    }
+
+    /**
+     * Blocks until there are changes to save, the worker is shut down or a timeout passes.
+     *
+     * @param timeoutMillis the longest time to wait, or Storage.NO_FORCE_DUE to wait without a timeout.
+     * @return true if there are changes to save, false if the worker has been shut down or the timeout passed.
+     */
+    private synchronized boolean awaitChanges(long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+
+        while (!isDirty && !isShutDown) {
+            long remainingMillis = deadline - System.currentTimeMillis();
+            if (timeoutMillis != Storage.NO_FORCE_DUE && remainingMillis <= 0) {
+                return false;
+            }
+            try {
+                if (timeoutMillis == Storage.NO_FORCE_DUE) {
+                    wait();
+                } else {
+                    wait(remainingMillis);
+                }
+            } catch (InterruptedException e) {
+                logger.info("Persistence worker interrupted while waiting for changes");
+            }
+        }
+
+        if (isShutDown) {
+            return false;
+        }
+        isDirty = false;
+        return true;
+    }
+
+    /**
+     * Waits for the rest of a burst of changes so that they are saved together, returning early if the worker
+     * is shut down. The worker is never interrupted instead, as that would close any channel it is writing to.
+     */
+    private synchronized void awaitRestOfBurst() {
+        long deadline = System.currentTimeMillis() + COALESCE_DELAY_MILLIS;
+        long remainingMillis = COALESCE_DELAY_MILLIS;
+
+        while (!isShutDown && remainingMillis > 0) {
+            try {
+                wait(remainingMillis);
+            } catch (InterruptedException e) {
+                logger.info("Persistence worker interrupted while waiting for more changes");
+            }
+            remainingMillis = deadline - System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Forces the journal entries left unforced by earlier saves to disk, outside the lock of the worker so that
+     * commands are not held up by the disk.
+     */
+    private void forceJournal() {
+        try {
+            storage.flush();
+        } catch (RuntimeException e) {
+            logger.severe("Failed to force saved changes to disk: %s", e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the changes made to the ItemList since the last save. The changes are captured while holding the
+     * lock of the ItemList, but only written to disk after it is released, unless the journal is due for
+     * compaction. If a save fails, the next one rewrites the whole storage file.
+     */
+    private void persist() {
+        try {
+            List<ItemChange> changes;
+            String journalEntries;
+
+            synchronized (itemList) {
+                changes = itemList.drainPendingChanges();
+                if (changes.isEmpty() && !hasFailedSave) {
+                    return;
+                }
+
+                if (hasFailedSave || storage.isJournalFull(changes.size())) {
+                    logger.info("Compacting journal into the data file...");
+                    storage.saveToStorage(itemList.getItemList());
+                    hasFailedSave = false;
+                    return;
+                }
+                journalEntries = storage.generateJournalEntries(changes);
+            }
+
+            storage.appendJournalEntries(journalEntries, changes.size());
+        } catch (RuntimeException e) {
+            logger.severe("Failed to save changes, the next save will rewrite the data file: %s", e.getMessage());
+            hasFailedSave = true;
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package seedu.binbash.storage;
 
+import seedu.binbash.enums.ChangeTypeEnum;
+import seedu.binbash.enums.DurabilityLevelEnum;
+import seedu.binbash.enums.SnapshotFormatEnum;
+import seedu.binbash.inventory.ItemChange;
 import seedu.binbash.item.Item;
 import seedu.binbash.exceptions.BinBashException;
 import seedu.binbash.item.OperationalItem;
@@ -8,15 +12,25 @@ import seedu.binbash.item.RetailItem;
 import seedu.binbash.logger.BinBashLogger;
 import seedu.binbash.item.PerishableOperationalItem;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 /**
@@ -25,36 +39,82 @@ import java.util.List;
 public class Storage {
 
     protected static final DateTimeFormatter EXPECTED_INPUT_DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    static final long NO_FORCE_DUE = -1;
 
-    private static final int ITEM_TYPE_INDEX = 0;
-    private static final int ITEM_NAME_INDEX = 1;
-    private static final int ITEM_DESCRIPTION_INDEX = 2;
-    private static final int ITEM_QUANTITY_INDEX = 3;
-    private static final int ITEM_COST_PRICE_INDEX = 4;
-    private static final int ITEM_TOTAL_UNITS_PURCHASED_INDEX = 5;
-    private static final int ITEM_THRESHOLD_INDEX = 6;
-    private static final int ITEM_EXPIRATION_DATE_INDEX = 7;
-    private static final int ITEM_SALE_PRICE_INDEX = 8;
-    private static final int ITEM_TOTAL_UNITS_SOLD_INDEX = 9;
+    private static final String[] ITEM_TYPES = {
+        "OperationalItem", "PerishableOperationalItem", "PerishableRetailItem", "RetailItem"
+    };
 
     private static final String DELIMITER = "|";
+    private static final String BINARY_DATA_FILE_NAME = "items.bin";
+    private static final String JOURNAL_FILE_NAME = "items_journal.txt";
+    private static final int MAX_JOURNAL_ENTRIES = 1000;
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final long GROUP_COMMIT_INTERVAL_MILLIS = 1000;
 
     protected String filePath;
     protected String dataDirectoryPath;
     protected String dataFileName;
+    protected String binaryFilePath;
+    protected String journalFilePath;
+    protected int journalEntryCount;
     protected boolean isCorrupted;
     protected BinBashLogger storageLogger;
+    protected DurabilityLevelEnum durabilityLevel;
+    protected SnapshotFormatEnum snapshotFormat;
+    private String loadedFilePath;
+    private FileChannel journalChannel;
+    private Writer journalWriter;
+    private boolean hasUnforcedJournalEntries;
+    private long lastJournalForceMillis;
 
     public Storage() {
-        this.filePath = "data/items.txt";
-        this.dataDirectoryPath = "./data/";
+        this("./data/");
+    }
+
+    /**
+     * Constructs a Storage object that keeps its data file and journal in the given directory.
+     *
+     * @param dataDirectoryPath the path of the data directory, ending with a separator.
+     */
+    Storage(String dataDirectoryPath) {
+        this.dataDirectoryPath = dataDirectoryPath;
         this.dataFileName = "items.txt";
+        this.filePath = dataDirectoryPath + dataFileName;
+        this.binaryFilePath = dataDirectoryPath + BINARY_DATA_FILE_NAME;
+        this.journalFilePath = dataDirectoryPath + JOURNAL_FILE_NAME;
+        this.journalEntryCount = 0;
         this.isCorrupted = false; // set to false by default
         this.storageLogger = new BinBashLogger(Storage.class.getName());
+        this.durabilityLevel = DurabilityLevelEnum.PER_COMMAND;
+        this.snapshotFormat = SnapshotFormatEnum.TEXT;
+    }
+
+    /**
+     * Sets how eagerly saved data is forced to disk.
+     *
+     * @param durabilityLevel the new durability level.
+     */
+    public void setDurabilityLevel(DurabilityLevelEnum durabilityLevel) {
+        this.durabilityLevel = durabilityLevel;
+    }
+
+    /**
+     * Sets the format the data file is saved in. A data file in the other format is imported on the next load,
+     * and removed once the data file has been saved in the new format.
+     *
+     * @param snapshotFormat the new data file format.
+     */
+    public void setSnapshotFormat(SnapshotFormatEnum snapshotFormat) {
+        this.snapshotFormat = snapshotFormat;
     }
 
     /**
      * Loads item data from the storage file and returns a list of items.
+     * If there is no storage file in the current format but there is one in the other format, that one is
+     * imported instead, and saved in the current format once loaded.
+     * Changes recorded in the journal since the storage file was last written are replayed on top of it,
+     * after which the storage file is rewritten and the journal cleared.
      * If the file is corrupted, it will attempt to handle the corrupted file
      * by renaming it and creating a new file.
      *
@@ -63,10 +123,16 @@ public class Storage {
     public ArrayList<Item> loadData() {
         storageLogger.info("Preparing to load data from storage file.");
         ArrayList<Item> outputList = new ArrayList<>();
+        boolean hasJournalEntries = false;
+        boolean isImported = false;
 
         try {
-            ArrayList<String> stringRepresentationOfTxtFile = readTxtFile();
-            outputList = parseLinesToItemList(stringRepresentationOfTxtFile);
+            outputList = readDataFile();
+            isImported = !loadedFilePath.equals(getDataFilePath());
+
+            ArrayList<String> journalEntries = readJournalFile();
+            hasJournalEntries = !journalEntries.isEmpty();
+            outputList = replayJournal(outputList, journalEntries);
         } catch (BinBashException | IOException e) {
             storageLogger.severe("Error creating the data directory and/or file.");
         }
@@ -77,6 +143,11 @@ public class Storage {
             handleCorruptedFile();
             storageLogger.info("User will be given an incomplete inventory.");
         }
+
+        if (hasJournalEntries || isCorrupted || isImported) {
+            storageLogger.info("Compacting journal into the data file.");
+            saveToStorage(outputList);
+        }
         return outputList;
     }
 
@@ -104,18 +175,19 @@ public class Storage {
     }
 
     /**
-     * Renames the corrupted data file to "items_corrupted.txt".
+     * Renames the corrupted data file to "items_corrupted.txt", or "items_corrupted.bin" if it is a binary one.
      *
      * @return true if the file is successfully renamed, false otherwise.
      */
     private boolean renameCorruptedFile() {
-        File corruptedFile = new File(filePath);
-        File renamedFile = new File(dataDirectoryPath + "items_corrupted.txt");
+        String renamedFileName = loadedFilePath.equals(binaryFilePath) ? "items_corrupted.bin" : "items_corrupted.txt";
+        File corruptedFile = new File(loadedFilePath);
+        File renamedFile = new File(dataDirectoryPath + renamedFileName);
 
         boolean isRenamed = corruptedFile.renameTo(renamedFile);
 
         if (isRenamed) {
-            storageLogger.info("Corrupted file successfully renamed to items_corrupted.txt.");
+            storageLogger.info("Corrupted file successfully renamed to %s.", renamedFileName);
         }
 
         return isRenamed;
@@ -135,22 +207,52 @@ public class Storage {
                 return true;
             }
         } catch (IOException e) {
-            storageLogger.severe("Error creating new items.txt file: " + e.getMessage());
+            storageLogger.severe("Error creating new items.txt file: %s", e.getMessage());
         }
         return false;
     }
 
     /**
-     * Reads the data file ("items.txt") and returns a list of strings representing each line in the file.
-     * If the "data" directory or "items.txt" file does not exist, they will be created.
+     * Reads the data file in the current format, or the one in the other format if there is none, and returns
+     * the list of items in it. A corrupted binary data file yields an empty list.
      *
-     * @return A list of strings, each representing a line in the data file.
+     * @return A list of items read from the data file.
      * @throws BinBashException if the directory or file cannot be created.
      * @throws IOException if an error occurs during file reading.
      */
-    protected ArrayList<String> readTxtFile() throws BinBashException, IOException {
+    protected ArrayList<Item> readDataFile() throws BinBashException, IOException {
+        boolean hasTextDataFile = new File(filePath).exists();
+        boolean hasBinaryDataFile = new File(binaryFilePath).exists();
+        boolean isBinaryFormat = snapshotFormat == SnapshotFormatEnum.BINARY;
+
+        if (hasBinaryDataFile && (isBinaryFormat || !hasTextDataFile)) {
+            loadedFilePath = binaryFilePath;
+            return readBinaryFile();
+        }
+
+        if (!isBinaryFormat || hasTextDataFile) {
+            loadedFilePath = filePath;
+            return readTxtFile();
+        }
+
+        // There is no data file yet, the binary one is created on the first save
+        loadedFilePath = binaryFilePath;
+        createDataDirectory();
+        return new ArrayList<>();
+    }
+
+    private ArrayList<Item> readBinaryFile() throws IOException {
+        try {
+            return BinarySnapshot.read(Paths.get(binaryFilePath));
+        } catch (BinBashException e) {
+            storageLogger.warning(e.getMessage());
+            isCorrupted = true;
+            return new ArrayList<>();
+        }
+    }
+
+    private void createDataDirectory() throws BinBashException {
         File dataDirectory = new File(dataDirectoryPath);
-        File dataFile = new File(dataDirectory, dataFileName);
 
         // Checks if the 'data' directory exists, if not create it
         if (!dataDirectory.exists()) {
@@ -159,6 +261,23 @@ public class Storage {
                 throw new BinBashException("Could not create data directory.");
             }
         }
+    }
+
+    /**
+     * Reads the data file ("items.txt") and returns a list of the items in it, in the order of their lines.
+     * The lines are parsed in parallel by a ParallelTextLoader, with the same handling of corrupted lines
+     * as parseLinesToItemList.
+     * If the "data" directory or "items.txt" file does not exist, they will be created.
+     *
+     * @return A list of items parsed from the data file.
+     * @throws BinBashException if the directory or file cannot be created.
+     * @throws IOException if an error occurs during file reading.
+     */
+    protected ArrayList<Item> readTxtFile() throws BinBashException, IOException {
+        File dataDirectory = new File(dataDirectoryPath);
+        File dataFile = new File(dataDirectory, dataFileName);
+
+        createDataDirectory();
 
         // Checks if the 'tasks.txt' file exists, if not create it
         if (!dataFile.exists()) {
@@ -171,11 +290,69 @@ public class Storage {
         assert dataDirectory.exists() : "Data directory should already exist / have been created";
         assert dataFile.exists() : "Data file (items.txt) should already exist / have been created";
 
-        ArrayList<String> dataItems = (ArrayList<String>)
-                Files.readAllLines(dataFile.toPath(), Charset.defaultCharset());
+        ParallelTextLoader loader = new ParallelTextLoader(this::tryConvertLineToItem, Charset.defaultCharset());
+        ArrayList<Item> dataItems = loader.load(dataFile.toPath());
+        if (loader.isCorrupted()) {
+            isCorrupted = true;
+        }
         return dataItems;
     }
 
+    /**
+     * Reads the journal file and returns a list of strings representing each entry in the journal.
+     *
+     * @return A list of strings, each representing an entry in the journal. Empty if there is no journal file.
+     * @throws IOException if an error occurs during file reading.
+     */
+    protected ArrayList<String> readJournalFile() throws IOException {
+        File journalFile = new File(journalFilePath);
+
+        if (!journalFile.exists()) {
+            return new ArrayList<>();
+        }
+
+        return (ArrayList<String>) Files.readAllLines(journalFile.toPath(), Charset.defaultCharset());
+    }
+
+    /**
+     * Applies the changes recorded in the journal, in order, to the list of items loaded from the storage file.
+     * A deletion removes the item with the same name, while any other change replaces the item with the same
+     * name in place, or adds it to the end of the list if there is none. Entries that cannot be parsed,
+     * such as one cut short by a crash while it was being appended, are skipped.
+     *
+     * @param itemList The list of items loaded from the storage file.
+     * @param journalEntries The list of strings representing each entry in the journal.
+     * @return A list of items with the journal entries applied.
+     */
+    protected ArrayList<Item> replayJournal(ArrayList<Item> itemList, List<String> journalEntries) {
+        if (journalEntries.isEmpty()) {
+            return itemList;
+        }
+
+        LinkedHashMap<String, Item> itemsByName = new LinkedHashMap<>();
+        for (Item item : itemList) {
+            itemsByName.put(item.getItemName(), item);
+        }
+
+        for (String journalEntry : journalEntries) {
+            try {
+                int delimiterIndex = journalEntry.indexOf(DELIMITER);
+                ChangeTypeEnum changeType = ChangeTypeEnum.valueOf(journalEntry.substring(0, delimiterIndex));
+                Item item = convertLineToItem(journalEntry.substring(delimiterIndex + 1));
+                if (item == null) {
+                    storageLogger.warning("Skipping journal entry with unknown item type: %s", journalEntry);
+                } else if (changeType == ChangeTypeEnum.DELETE) {
+                    itemsByName.remove(item.getItemName());
+                } else {
+                    itemsByName.put(item.getItemName(), item);
+                }
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                storageLogger.warning("Skipping unreadable journal entry: %s", journalEntry);
+            }
+        }
+        return new ArrayList<>(itemsByName.values());
+    }
+
     /**
      * Parses the string representation of a text file and returns a list of items.
      *
@@ -186,85 +363,106 @@ public class Storage {
         ArrayList<Item> outputList = new ArrayList<>();
 
         for (String line : stringRepresentationOfTxtFile) {
-            try {
-                Item item = convertLineToItem(line);
-                if (item != null) {
-                    outputList.add(item);
-                } else {
-                    isCorrupted = true;
-                }
-            } catch (NumberFormatException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            Item item = tryConvertLineToItem(line);
+            if (item != null) {
+                outputList.add(item);
+            } else {
                 isCorrupted = true;
             }
         }
         return outputList;
     }
 
+    /**
+     * Parses a single line from the text file to create an item object, without throwing if the line is invalid.
+     * Does not modify this Storage, so lines may be parsed concurrently.
+     *
+     * @param line The string representation of a single line in the text file.
+     * @return The item object created from the line, or {@code null} if the line is not a valid item.
+     */
+    protected Item tryConvertLineToItem(String line) {
+        try {
+            return convertLineToItem(line);
+        } catch (NumberFormatException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
     /**
      * Parses a single line from the text file to create an item object.
+     * The fields of the line are read in order by a LineTokenizer, without splitting the line first.
      *
      * @param line The string representation of a single line in the text file.
      * @return The item object created from the line, or {@code null} if the item type is unknown.
      */
     protected Item convertLineToItem(String line) {
-        String[] itemElements = line.split("\\|");
-        String itemType = itemElements[ITEM_TYPE_INDEX];
+        LineTokenizer tokenizer = new LineTokenizer(line);
+        String itemType = tokenizer.nextFieldAsOneOf(ITEM_TYPES);
+        if (itemType == null) {
+            return null;
+        }
+
+        String itemName = tokenizer.nextString();
+        String itemDescription = tokenizer.nextString();
+        int itemQuantity = tokenizer.nextInt();
+        double itemCostPrice = tokenizer.nextDouble();
+        int totalUnitsPurchased = tokenizer.nextInt();
+        int itemThreshold = tokenizer.nextInt();
 
         switch (itemType) {
         case "OperationalItem":
 
             OperationalItem operationalItem = new OperationalItem(
-                    itemElements[ITEM_NAME_INDEX],
-                    itemElements[ITEM_DESCRIPTION_INDEX],
-                    Integer.parseInt(itemElements[ITEM_QUANTITY_INDEX]),
-                    Double.parseDouble(itemElements[ITEM_COST_PRICE_INDEX]),
-                    Integer.parseInt(itemElements[ITEM_THRESHOLD_INDEX])
+                    itemName,
+                    itemDescription,
+                    itemQuantity,
+                    itemCostPrice,
+                    itemThreshold
             );
-            operationalItem.setTotalUnitsPurchased(Integer.parseInt(itemElements[ITEM_TOTAL_UNITS_PURCHASED_INDEX]));
+            operationalItem.setTotalUnitsPurchased(totalUnitsPurchased);
 
             return operationalItem;
         case "PerishableOperationalItem":
 
             PerishableOperationalItem perishableOperationalItem = new PerishableOperationalItem(
-                    itemElements[ITEM_NAME_INDEX],
-                    itemElements[ITEM_DESCRIPTION_INDEX],
-                    Integer.parseInt(itemElements[ITEM_QUANTITY_INDEX]),
-                    LocalDate.parse(itemElements[ITEM_EXPIRATION_DATE_INDEX], EXPECTED_INPUT_DATE_FORMAT),
-                    Double.parseDouble(itemElements[ITEM_COST_PRICE_INDEX]),
-                    Integer.parseInt(itemElements[ITEM_THRESHOLD_INDEX])
+                    itemName,
+                    itemDescription,
+                    itemQuantity,
+                    tokenizer.nextDate(EXPECTED_INPUT_DATE_FORMAT),
+                    itemCostPrice,
+                    itemThreshold
             );
-            perishableOperationalItem.setTotalUnitsPurchased(Integer.parseInt(
-                    itemElements[ITEM_TOTAL_UNITS_PURCHASED_INDEX]));
+            perishableOperationalItem.setTotalUnitsPurchased(totalUnitsPurchased);
 
             return perishableOperationalItem;
         case "PerishableRetailItem":
 
+            LocalDate itemExpirationDate = tokenizer.nextDate(EXPECTED_INPUT_DATE_FORMAT);
             PerishableRetailItem perishableRetailItem = new PerishableRetailItem(
-                    itemElements[ITEM_NAME_INDEX],
-                    itemElements[ITEM_DESCRIPTION_INDEX],
-                    Integer.parseInt(itemElements[ITEM_QUANTITY_INDEX]),
-                    LocalDate.parse(itemElements[ITEM_EXPIRATION_DATE_INDEX], EXPECTED_INPUT_DATE_FORMAT),
-                    Double.parseDouble(itemElements[ITEM_SALE_PRICE_INDEX]),
-                    Double.parseDouble(itemElements[ITEM_COST_PRICE_INDEX]),
-                    Integer.parseInt(itemElements[ITEM_THRESHOLD_INDEX])
+                    itemName,
+                    itemDescription,
+                    itemQuantity,
+                    itemExpirationDate,
+                    tokenizer.nextDouble(),
+                    itemCostPrice,
+                    itemThreshold
             );
-            perishableRetailItem.setTotalUnitsPurchased(Integer.parseInt(
-                    itemElements[ITEM_TOTAL_UNITS_PURCHASED_INDEX]));
-            perishableRetailItem.setTotalUnitsSold(Integer.parseInt(
-                    itemElements[ITEM_TOTAL_UNITS_SOLD_INDEX]));
+            perishableRetailItem.setTotalUnitsPurchased(totalUnitsPurchased);
+            perishableRetailItem.setTotalUnitsSold(tokenizer.nextInt());
 
             return perishableRetailItem;
         case "RetailItem":
+            tokenizer.skipField(); // Retail items have no expiration date
             RetailItem retailItem = new RetailItem(
-                    itemElements[ITEM_NAME_INDEX],
-                    itemElements[ITEM_DESCRIPTION_INDEX],
-                    Integer.parseInt(itemElements[ITEM_QUANTITY_INDEX]),
-                    Double.parseDouble(itemElements[ITEM_SALE_PRICE_INDEX]),
-                    Double.parseDouble(itemElements[ITEM_COST_PRICE_INDEX]),
-                    Integer.parseInt(itemElements[ITEM_THRESHOLD_INDEX])
+                    itemName,
+                    itemDescription,
+                    itemQuantity,
+                    tokenizer.nextDouble(),
+                    itemCostPrice,
+                    itemThreshold
             );
-            retailItem.setTotalUnitsPurchased(Integer.parseInt(itemElements[ITEM_TOTAL_UNITS_PURCHASED_INDEX]));
-            retailItem.setTotalUnitsSold(Integer.parseInt(itemElements[ITEM_TOTAL_UNITS_SOLD_INDEX]));
+            retailItem.setTotalUnitsPurchased(totalUnitsPurchased);
+            retailItem.setTotalUnitsSold(tokenizer.nextInt());
 
             return retailItem;
         default:
@@ -273,38 +471,270 @@ public class Storage {
     }
 
     /**
-     * Saves the list of items to the storage file in a format suitable for loading.
+     * Saves the list of items to the storage file in the current format, then clears the journal
+     * as every change recorded in it is now part of the storage file.
+     * Items are streamed to a temporary file, which then atomically replaces the storage file, so a crash
+     * while saving leaves either the old or the new storage file in place, never a partially written one.
+     * Any storage file in the other format is removed afterwards, as it is now out of date.
      *
      * @param itemList The list of items to be saved.
      */
     public void saveToStorage(List<Item> itemList) {
-        String textToSave = generateTextToSave(itemList);
+        Path dataFile = Paths.get(getDataFilePath());
+        Path temporaryFile = Paths.get(getDataFilePath() + TEMPORARY_FILE_SUFFIX);
+        Path otherFormatDataFile = Paths.get(snapshotFormat == SnapshotFormatEnum.BINARY ? filePath : binaryFilePath);
 
         try {
-            FileWriter fw = new FileWriter(filePath);
-            fw.write(textToSave);
-            fw.close();
+            writeSnapshot(temporaryFile, itemList);
+            replaceAtomically(temporaryFile, dataFile);
+            Files.deleteIfExists(otherFormatDataFile);
+
+            // The journal is only cleared once the storage file has been replaced,
+            // replaying it over the new storage file would have no effect anyway
+            clearJournal();
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Generates a string representation of the list of items to be saved to the file.
+     * Saves a batch of changes made to the item list by appending them to the journal. Once the journal has
+     * grown past a fixed number of entries, the whole list of items is saved to the storage file instead.
+     *
+     * @param changes The changes made to the list of items since they were last saved.
+     * @param itemList The list of items, in its state after all of the changes were made.
+     */
+    public void saveChanges(List<ItemChange> changes, List<Item> itemList) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        if (isJournalFull(changes.size())) {
+            storageLogger.info("Journal is full, compacting it into the data file.");
+            saveToStorage(itemList);
+            return;
+        }
+
+        appendJournalEntries(generateJournalEntries(changes), changes.size());
+    }
+
+    /**
+     * Returns whether the journal has no room for the given number of entries, in which case the changes
+     * should be saved by compacting the journal into the storage file instead.
      *
-     * @param itemList The list of items to be converted into a string.
-     * @return A string representation of the list of items, suitable for saving to a file.
+     * @param entryCount The number of entries to be appended to the journal.
+     * @return true if the journal should be compacted, false otherwise.
      */
-    protected String generateTextToSave(List<Item> itemList) {
-        String textToSave = "";
+    public boolean isJournalFull(int entryCount) {
+        return journalEntryCount + entryCount > MAX_JOURNAL_ENTRIES;
+    }
+
+    /**
+     * Generates the journal entries for a batch of changes, to be appended to the journal later.
+     * This captures the state of the changed items at the time it is called.
+     *
+     * @param changes The changes to be converted into journal entries.
+     * @return A string of journal entries, one per line.
+     */
+    public String generateJournalEntries(List<ItemChange> changes) {
+        StringWriter journalEntries = new StringWriter();
+        try {
+            writeJournalEntries(journalEntries, changes);
+        } catch (IOException e) {
+            throw new AssertionError("Writing to a StringWriter should never fail", e);
+        }
+        return journalEntries.toString();
+    }
+
+    /**
+     * Appends journal entries generated by generateJournalEntries to the journal, forcing them to disk
+     * as required by the durability level.
+     *
+     * @param journalEntries The journal entries to append.
+     * @param entryCount The number of entries being appended.
+     */
+    public void appendJournalEntries(String journalEntries, int entryCount) {
+        try {
+            appendToJournal(journalEntries);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        journalEntryCount += entryCount;
+    }
+
+    /**
+     * Forces any journal entries that have not yet been forced to disk, unless the durability level is NONE.
+     * With PERIODIC durability, this should be called before the application exits.
+     */
+    public void flush() {
+        try {
+            if (journalChannel != null && hasUnforcedJournalEntries && durabilityLevel != DurabilityLevelEnum.NONE) {
+                forceJournal();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns how long until the journal entries that have not yet been forced to disk are due to be forced, with
+     * PERIODIC durability. flush() should be called once they are due, if no other append forces them first.
+     *
+     * @return the number of milliseconds until they are due, 0 if they are overdue, or NO_FORCE_DUE if no entries
+     *     are waiting to be forced or the durability level is not PERIODIC.
+     */
+    long getMillisUntilJournalForceDue() {
+        if (!hasUnforcedJournalEntries || durabilityLevel != DurabilityLevelEnum.PERIODIC) {
+            return NO_FORCE_DUE;
+        }
+        long elapsedMillis = System.currentTimeMillis() - lastJournalForceMillis;
+        return Math.max(GROUP_COMMIT_INTERVAL_MILLIS - elapsedMillis, 0);
+    }
+
+    /**
+     * Flushes the journal and releases the file it was held open on.
+     */
+    public void close() {
+        flush();
+        try {
+            if (journalChannel != null) {
+                journalWriter.close();
+                journalChannel = null;
+                journalWriter = null;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void writeSnapshot(Path path, List<Item> itemList) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (snapshotFormat == SnapshotFormatEnum.BINARY) {
+                BinarySnapshot.write(channel, itemList);
+            } else {
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, Charset.defaultCharset().name()));
+                writeItems(writer, itemList);
+                writer.flush();
+            }
+
+            if (durabilityLevel != DurabilityLevelEnum.NONE) {
+                channel.force(true);
+            }
+        }
+    }
+
+    private String getDataFilePath() {
+        return snapshotFormat == SnapshotFormatEnum.BINARY ? binaryFilePath : filePath;
+    }
+
+    private void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            storageLogger.warning("Atomic move not supported, replacing the data file non-atomically.");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (durabilityLevel == DurabilityLevelEnum.NONE) {
+            return;
+        }
+
+        // Forces the rename itself to disk, which not every platform allows
+        try (FileChannel directory = FileChannel.open(target.toAbsolutePath().getParent(), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            storageLogger.info("Could not force the data directory to disk: %s", e.getMessage());
+        }
+    }
+
+    private void openJournal() throws IOException {
+        journalChannel = FileChannel.open(Paths.get(journalFilePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalWriter = new BufferedWriter(Channels.newWriter(journalChannel, Charset.defaultCharset().name()));
+        lastJournalForceMillis = System.currentTimeMillis();
+    }
+
+    private void appendToJournal(String journalEntries) throws IOException {
+        if (journalChannel == null) {
+            openJournal();
+        }
+
+        journalWriter.write(journalEntries);
+        journalWriter.flush();
+        hasUnforcedJournalEntries = true;
+
+        switch (durabilityLevel) {
+        case PER_COMMAND:
+            forceJournal();
+            break;
+        case PERIODIC:
+            if (System.currentTimeMillis() - lastJournalForceMillis >= GROUP_COMMIT_INTERVAL_MILLIS) {
+                forceJournal();
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void forceJournal() throws IOException {
+        journalChannel.force(false);
+        hasUnforcedJournalEntries = false;
+        lastJournalForceMillis = System.currentTimeMillis();
+    }
+
+    private void clearJournal() throws IOException {
+        if (journalChannel == null) {
+            openJournal();
+        }
+
+        journalChannel.truncate(0);
+        if (durabilityLevel != DurabilityLevelEnum.NONE) {
+            forceJournal();
+        }
+        hasUnforcedJournalEntries = false;
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Writes the journal entries for a batch of changes, one per line. Each entry consists of the type of
+     * change followed by the storage representation of the changed item.
+     *
+     * @param writer The writer to write the journal entries to.
+     * @param changes The changes to be converted into journal entries.
+     * @throws IOException if an error occurs during writing.
+     */
+    protected void writeJournalEntries(Writer writer, List<ItemChange> changes) throws IOException {
+        ReusableLineBuffer lineBuffer = new ReusableLineBuffer();
+
+        for (ItemChange change : changes) {
+            StringBuilder line = lineBuffer.clear()
+                    .append(change.getChangeType())
+                    .append(DELIMITER);
+            appendStorageRepresentationOfSingleItem(line, change.getItem());
+            lineBuffer.writeLineTo(writer);
+        }
+    }
+
+    /**
+     * Writes the storage representation of each item in the list to the writer, one item per line.
+     * The representation of every item is built in the same reusable buffer, so the memory used does not
+     * grow with the number of items.
+     *
+     * @param writer The writer to write the items to.
+     * @param itemList The list of items to be written.
+     * @throws IOException if an error occurs during writing.
+     */
+    protected void writeItems(Writer writer, List<Item> itemList) throws IOException {
+        ReusableLineBuffer lineBuffer = new ReusableLineBuffer();
 
         for (Item item: itemList) {
             if (item != null) {
-                textToSave += generateStorageRepresentationOfSingleItem(item)
-                        + System.lineSeparator();
+                appendStorageRepresentationOfSingleItem(lineBuffer.clear(), item);
+                lineBuffer.writeLineTo(writer);
             }
         }
-        return textToSave;
     }
 
     /**
@@ -314,50 +744,83 @@ public class Storage {
      * @return A string representation of the item, suitable for saving to a file.
      */
     protected String generateStorageRepresentationOfSingleItem(Item item) {
+        StringBuilder output = new StringBuilder();
+        appendStorageRepresentationOfSingleItem(output, item);
+        return output.toString();
+    }
+
+    /**
+     * Appends the storage representation of a single item to the given StringBuilder.
+     *
+     * @param output The StringBuilder to append to.
+     * @param item The item to be converted into its storage representation.
+     */
+    protected void appendStorageRepresentationOfSingleItem(StringBuilder output, Item item) {
         String itemType = item.getClass().getSimpleName();
 
         // Common fields for all item types
-        String output = itemType + DELIMITER
-                + item.getItemName() + DELIMITER
-                + item.getItemDescription() + DELIMITER
-                + item.getItemQuantity() + DELIMITER
-                + item.getItemCostPrice() + DELIMITER
-                + item.getTotalUnitsPurchased() + DELIMITER
-                + item.getItemThreshold() + DELIMITER;
+        output.append(itemType).append(DELIMITER)
+                .append(item.getItemName()).append(DELIMITER)
+                .append(item.getItemDescription()).append(DELIMITER)
+                .append(item.getItemQuantity()).append(DELIMITER)
+                .append(item.getItemCostPrice()).append(DELIMITER)
+                .append(item.getTotalUnitsPurchased()).append(DELIMITER)
+                .append(item.getItemThreshold()).append(DELIMITER);
 
         // Additional fields for specific item types
         switch (itemType) {
         case "OperationalItem":
-            output += " " + DELIMITER
-                    + " " + DELIMITER
-                    + " " + DELIMITER;
+            output.append(" ").append(DELIMITER)
+                    .append(" ").append(DELIMITER)
+                    .append(" ").append(DELIMITER);
             break;
         case "PerishableOperationalItem":
             PerishableOperationalItem perishableOperationalItem = (PerishableOperationalItem) item;
 
-            output += perishableOperationalItem.getItemExpirationDate() + DELIMITER
-                    + " " + DELIMITER
-                    + " " + DELIMITER;
+            output.append(perishableOperationalItem.getItemExpirationDate()).append(DELIMITER)
+                    .append(" ").append(DELIMITER)
+                    .append(" ").append(DELIMITER);
             break;
         case "PerishableRetailItem":
             PerishableRetailItem perishableRetailItem = (PerishableRetailItem) item;
 
-            output += perishableRetailItem.getItemExpirationDate() + DELIMITER
-                    + perishableRetailItem.getItemSalePrice() + DELIMITER
-                    + perishableRetailItem.getTotalUnitsSold() + DELIMITER;
+            output.append(perishableRetailItem.getItemExpirationDate()).append(DELIMITER)
+                    .append(perishableRetailItem.getItemSalePrice()).append(DELIMITER)
+                    .append(perishableRetailItem.getTotalUnitsSold()).append(DELIMITER);
             break;
         case "RetailItem":
             RetailItem retailItem = (RetailItem) item;
 
-            output += " " + DELIMITER
-                    + retailItem.getItemSalePrice() + DELIMITER
-                    + retailItem.getTotalUnitsSold() + DELIMITER;
+            output.append(" ").append(DELIMITER)
+                    .append(retailItem.getItemSalePrice()).append(DELIMITER)
+                    .append(retailItem.getTotalUnitsSold()).append(DELIMITER);
             break;
         default:
             isCorrupted = true;
             break;
         }
+    }
+
+    /**
+     * A StringBuilder and char array pair that are reused to build and write one line at a time,
+     * so that writing a line to a Writer does not allocate a new String.
+     */
+    private static class ReusableLineBuffer {
+        private final StringBuilder line = new StringBuilder();
+        private char[] chars = new char[256];
+
+        StringBuilder clear() {
+            line.setLength(0);
+            return line;
+        }
 
-        return output;
+        void writeLineTo(Writer writer) throws IOException {
+            line.append(System.lineSeparator());
+            if (chars.length < line.length()) {
+                chars = new char[Math.max(line.length(), chars.length * 2)];
+            }
+            line.getChars(0, line.length(), chars, 0);
+            writer.write(chars, 0, line.length());
+        }
     }
 }
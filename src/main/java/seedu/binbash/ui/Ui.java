@@ -98,7 +98,10 @@ public class Ui {
         if (line == "Bye!") {
             assert !isUserActive;
         }
-        System.out.println(LINE_DIVIDER + NEWLINE + line + NEWLINE + LINE_DIVIDER);
+        // Printed in parts, so that a long response, such as a large list, is not copied into a larger string first
+        System.out.println(LINE_DIVIDER);
+        System.out.println(line);
+        System.out.println(LINE_DIVIDER);
     }
 
     /**
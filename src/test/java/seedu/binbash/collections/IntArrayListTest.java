@@ -0,0 +1,31 @@
+package seedu.binbash.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class IntArrayListTest {
+    private final IntArrayList list = new IntArrayList(1);
+
+    @Test
+    void add_beyondInitialCapacity_allIntsKept() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 3);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i * 3, list.get(i));
+        }
+    }
+
+    @Test
+    void get_indexPastSizeAfterClear_throwsException() {
+        list.add(1);
+        list.clear();
+
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.binbash.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+class IntIntHashMapTest {
+    private final IntIntHashMap map = new IntIntHashMap();
+
+    @Test
+    void getOrDefault_keyWithValueZero_valueReturned() {
+        map.put(3, 0);
+
+        assertTrue(map.containsKey(3));
+        assertEquals(0, map.getOrDefault(3, -1));
+        assertEquals(-1, map.getOrDefault(4, -1));
+    }
+
+    @Test
+    void remove_keyNotInMap_returnsFalse() {
+        map.put(3, 30);
+
+        assertFalse(map.remove(4));
+        assertTrue(map.remove(3));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void getOrDefault_randomPutsAndRemoves_sameAsHashMap() {
+        Random random = new Random(1919);
+        HashMap<Integer, Integer> expectedMap = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) > 0) {
+                map.put(key, i);
+                expectedMap.put(key, i);
+            } else {
+                assertEquals(expectedMap.remove(key) != null, map.remove(key));
+            }
+
+            int lookedUpKey = random.nextInt(2000) - 1000;
+            assertEquals((int) expectedMap.getOrDefault(lookedUpKey, -1), map.getOrDefault(lookedUpKey, -1));
+        }
+
+        assertEquals(expectedMap.size(), map.size());
+        for (int key = -1000; key < 1000; key++) {
+            assertEquals(expectedMap.containsKey(key), map.containsKey(key));
+        }
+    }
+}
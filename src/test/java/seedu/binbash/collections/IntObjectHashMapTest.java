@@ -0,0 +1,98 @@
+package seedu.binbash.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+class IntObjectHashMapTest {
+    private final IntObjectHashMap<String> map = new IntObjectHashMap<>();
+
+    @Test
+    void put_existingKey_valueReplaced() {
+        map.put(7, "first");
+
+        map.put(7, "second");
+
+        assertEquals(1, map.size());
+        assertEquals("second", map.get(7));
+    }
+
+    @Test
+    void remove_keyNotInMap_returnsNull() {
+        map.put(7, "seven");
+
+        assertNull(map.remove(8));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void remove_consecutiveKeys_otherKeysStillFound() {
+        for (int key = 0; key < 1000; key++) {
+            map.put(key, String.valueOf(key));
+        }
+
+        for (int key = 0; key < 1000; key += 2) {
+            assertEquals(String.valueOf(key), map.remove(key));
+        }
+
+        assertEquals(500, map.size());
+        for (int key = 0; key < 1000; key++) {
+            assertEquals(key % 2 == 1, map.containsKey(key));
+        }
+    }
+
+    @Test
+    void get_randomPutsAndRemoves_sameAsHashMap() {
+        Random random = new Random(1818);
+        HashMap<Integer, String> expectedMap = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // A small key range makes the same keys come up again, and negative keys are included
+            int key = random.nextInt(2000) - 1000;
+            if (random.nextInt(3) > 0) {
+                String value = String.valueOf(i);
+                map.put(key, value);
+                expectedMap.put(key, value);
+            } else {
+                assertEquals(expectedMap.remove(key), map.remove(key));
+            }
+
+            int lookedUpKey = random.nextInt(2000) - 1000;
+            assertEquals(expectedMap.get(lookedUpKey), map.get(lookedUpKey));
+        }
+
+        assertEquals(expectedMap.size(), map.size());
+        for (int key = -1000; key < 1000; key++) {
+            assertEquals(expectedMap.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void forEachValue_smallInitialCapacity_everyValuePassed() {
+        IntObjectHashMap<String> smallMap = new IntObjectHashMap<>(2);
+        for (int key = 0; key < 10; key++) {
+            smallMap.put(key, String.valueOf(key));
+        }
+        smallMap.remove(4);
+
+        List<String> values = new ArrayList<>();
+        smallMap.forEachValue(values::add);
+
+        assertEquals(9, values.size());
+        assertFalse(values.contains("4"));
+    }
+
+    @Test
+    void containsKey_emptyMap_returnsFalse() {
+        assertFalse(map.containsKey(0));
+        map.put(0, "zero");
+        assertTrue(map.containsKey(0));
+    }
+}
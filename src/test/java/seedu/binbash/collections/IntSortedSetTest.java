@@ -0,0 +1,53 @@
+package seedu.binbash.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+class IntSortedSetTest {
+    private final IntSortedSet set = new IntSortedSet();
+
+    @Test
+    void add_outOfOrder_keptSorted() {
+        set.add(5);
+        set.add(1);
+        set.add(3);
+
+        assertEquals(1, set.get(0));
+        assertEquals(3, set.get(1));
+        assertEquals(5, set.get(2));
+    }
+
+    @Test
+    void add_intAlreadyInSet_returnsFalse() {
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void get_randomAddsAndRemoves_sameAsTreeSet() {
+        Random random = new Random(2020);
+        TreeSet<Integer> expectedSet = new TreeSet<>();
+        for (int i = 0; i < 5000; i++) {
+            int element = random.nextInt(500);
+            if (random.nextInt(3) > 0) {
+                assertEquals(expectedSet.add(element), set.add(element));
+            } else {
+                assertEquals(expectedSet.remove(element), set.remove(element));
+            }
+            assertEquals(expectedSet.contains(element), set.contains(element));
+        }
+
+        assertEquals(expectedSet.size(), set.size());
+        int rank = 0;
+        for (int element : expectedSet) {
+            assertEquals(element, set.get(rank++));
+        }
+    }
+}
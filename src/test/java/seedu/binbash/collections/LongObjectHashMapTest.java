@@ -0,0 +1,46 @@
+package seedu.binbash.collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+class LongObjectHashMapTest {
+    private final LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+    @Test
+    void get_keysDifferingInHighBits_keptApart() {
+        map.put(1L, "low");
+        map.put(1L << 40, "high");
+
+        assertEquals("low", map.get(1L));
+        assertEquals("high", map.get(1L << 40));
+        assertNull(map.get(0L));
+    }
+
+    @Test
+    void get_randomPutsAndRemoves_sameAsHashMap() {
+        Random random = new Random(2121);
+        HashMap<Long, String> expectedMap = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            // Keys made of three characters, like the trigrams they are used for
+            long key = ((long) random.nextInt(8) << 32) | ((long) random.nextInt(8) << 16) | random.nextInt(8);
+            if (random.nextInt(3) > 0) {
+                String value = String.valueOf(i);
+                map.put(key, value);
+                expectedMap.put(key, value);
+            } else {
+                assertEquals(expectedMap.remove(key), map.remove(key));
+            }
+            assertEquals(expectedMap.get(key), map.get(key));
+        }
+
+        assertEquals(expectedMap.size(), map.size());
+        for (long key : expectedMap.keySet()) {
+            assertEquals(expectedMap.get(key), map.get(key));
+        }
+    }
+}
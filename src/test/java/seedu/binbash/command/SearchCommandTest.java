@@ -58,6 +58,24 @@ public class SearchCommandTest {
         Assertions.assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    void execute_fuzzyNameSearch_listsNearMatchesClosestFirst() {
+        SearchCommand searchCommand = new SearchCommand();
+        searchCommand.setNameField("Red Bnana");
+        searchCommand.setNameDistance(3);
+
+        ItemList dummyItemList = new ItemList(testItemList);
+        searchCommand.execute(dummyItemList);
+        String actualOutput = searchCommand.getExecutionUiOutput();
+
+        String expectedOutput = dummyItemList.printList(new ArrayList<>() {
+            {
+                add(testItemList.get(7)); // Red Banana, 1 edit away
+            }
+        });
+        Assertions.assertEquals(expectedOutput, actualOutput);
+    }
+
     @Test
     void execute_searchWithEmptyCriteria_returnsAllItems() {
         SearchCommand searchCommand = new SearchCommand();
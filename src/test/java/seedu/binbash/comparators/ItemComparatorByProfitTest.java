@@ -63,6 +63,16 @@ class ItemComparatorByProfitTest {
         assertEquals("Item2", itemList.get(1).getItemName());
     }
 
+    @Test
+    void compare_itemsWithEqualProfits_returnsZeroBothWays() {
+        RetailItem item1 = new RetailItem("Item1", "Description1", 10, 15.0, 5.0);
+        RetailItem item2 = new RetailItem("Item2", "Description2", 10, 15.0, 5.0);
+        ItemComparatorByProfit comparator = new ItemComparatorByProfit();
+
+        assertEquals(0, comparator.compare(item1, item2));
+        assertEquals(0, comparator.compare(item2, item1));
+    }
+
     @Test
     public void compare_itemsWithNegativeProfit_sortedByAscendingProfit() {
         RetailItem item1 = new RetailItem("Item1", "Description1", 10, 5.0, 15.0);
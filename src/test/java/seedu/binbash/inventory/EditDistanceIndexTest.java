@@ -0,0 +1,96 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+class EditDistanceIndexTest {
+    private final EditDistanceIndex nameIndex = new EditDistanceIndex();
+
+    @Test
+    void forEachWithin_itemsWithSameName_everyItemFound() {
+        nameIndex.add(0, "milk");
+        nameIndex.add(1, "bread");
+        nameIndex.add(2, "milk");
+
+        assertEquals(List.of(0, 2), findItemsWithin("mlk", 1));
+        assertTrue(findItemsWithin("mlk", 0).isEmpty());
+    }
+
+    @Test
+    void remove_lastItemWithName_otherNamesStillFound() {
+        nameIndex.add(0, "milk");
+        nameIndex.add(1, "mill");
+        nameIndex.add(2, "silk");
+
+        nameIndex.remove(0);
+
+        assertEquals(List.of(1, 2), findItemsWithin("milk", 1));
+    }
+
+    @Test
+    void reindex_nameChanged_itemFoundUnderNewNameOnly() {
+        nameIndex.add(0, "milk");
+
+        nameIndex.reindex(0, "bread");
+
+        assertTrue(findItemsWithin("milk", 2).isEmpty());
+        assertEquals(List.of(0), findItemsWithin("braed", 2));
+    }
+
+    @Test
+    void forEachWithin_randomAddsRemovesAndReindexes_sameItemsAsMeasuringEveryName() {
+        Random random = new Random(1616);
+        HashMap<Integer, String> names = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            int itemNumber = random.nextInt(300);
+            String name = randomName(random);
+            if (!names.containsKey(itemNumber)) {
+                nameIndex.add(itemNumber, name);
+                names.put(itemNumber, name);
+            } else if (random.nextBoolean()) {
+                nameIndex.reindex(itemNumber, name);
+                names.put(itemNumber, name);
+            } else {
+                nameIndex.remove(itemNumber);
+                names.remove(itemNumber);
+            }
+        }
+
+        for (int i = 0; i < 300; i++) {
+            String name = randomName(random);
+            int maxDistance = random.nextInt(4);
+            ArrayList<Integer> expectedItemNumbers = new ArrayList<>();
+            for (int itemNumber = 0; itemNumber < 300; itemNumber++) {
+                String indexedName = names.get(itemNumber);
+                if (indexedName != null
+                        && EditDistancePattern.getDistanceByTable(name, indexedName) <= maxDistance) {
+                    expectedItemNumbers.add(itemNumber);
+                }
+            }
+            assertEquals(expectedItemNumbers, findItemsWithin(name, maxDistance));
+        }
+    }
+
+    private List<Integer> findItemsWithin(String lowerCaseName, int maxDistance) {
+        ArrayList<Integer> itemNumbers = new ArrayList<>();
+        nameIndex.forEachWithin(new EditDistancePattern(lowerCaseName), maxDistance, itemNumbers::add);
+        itemNumbers.sort(null);
+        return itemNumbers;
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 1 + random.nextInt(7);
+        for (int i = 0; i < length; i++) {
+            name.append("abcd ".charAt(random.nextInt(5)));
+        }
+        return name.toString();
+    }
+}
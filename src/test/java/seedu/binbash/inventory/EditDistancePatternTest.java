@@ -0,0 +1,39 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class EditDistancePatternTest {
+    @Test
+    void getDistanceTo_knownPairs_correctDistances() {
+        assertEquals(3, new EditDistancePattern("kitten").getDistanceTo("sitting"));
+        assertEquals(0, new EditDistancePattern("banana").getDistanceTo("banana"));
+        assertEquals(1, new EditDistancePattern("banana").getDistanceTo("bananna"));
+        assertEquals(5, new EditDistancePattern("").getDistanceTo("apple"));
+        assertEquals(5, new EditDistancePattern("apple").getDistanceTo(""));
+        assertEquals(2, new EditDistancePattern("caf\u00e9 au lait").getDistanceTo("cafe au lai"));
+    }
+
+    @Test
+    void getDistanceTo_randomStrings_sameDistanceAsTable() {
+        Random random = new Random(1616);
+        for (int i = 0; i < 2000; i++) {
+            // Covers patterns longer than the 64 characters measured bit-parallel, and characters outside ASCII
+            String pattern = randomString(random, random.nextInt(i % 10 == 0 ? 80 : 20));
+            String text = randomString(random, random.nextInt(i % 10 == 0 ? 80 : 20));
+            assertEquals(EditDistancePattern.getDistanceByTable(pattern, text),
+                    new EditDistancePattern(pattern).getDistanceTo(text));
+        }
+    }
+
+    private static String randomString(Random random, int length) {
+        StringBuilder string = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            string.append("abc\u00e9\u20ac ".charAt(random.nextInt(6)));
+        }
+        return string.toString();
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import seedu.binbash.command.RestockCommand;
+import seedu.binbash.command.SellCommand;
 import seedu.binbash.exceptions.InvalidCommandException;
 import seedu.binbash.item.Item;
 import seedu.binbash.item.OperationalItem;
@@ -13,8 +15,10 @@ import seedu.binbash.item.RetailItem;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -81,6 +85,132 @@ class ItemListTest {
         assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    void deleteItem_indexesOfSortedList_sortedItemsRemovedInTurn() {
+        Item cheap = new OperationalItem("cheap", "", 1, 1.00);
+        Item dear = new OperationalItem("dear", "", 1, 9.00);
+        Item middle = new OperationalItem("middle", "", 1, 5.00);
+        inventory.add(cheap);
+        inventory.add(dear);
+        inventory.add(middle);
+        itemList = new ItemList(inventory);
+        itemList.printListSortedByCostPrice(itemList.getItemList());
+
+        itemList.deleteItem(2);
+        itemList.deleteItem(3);
+
+        assertEquals(1, itemList.getItemCount());
+        assertSame(cheap, itemList.getItemList().get(0));
+        assertEquals("Item has already been deleted!", itemList.deleteItem(2));
+    }
+
+    @Test
+    void printListSortedByCostPrice_soldItemWithEqualCostPrice_reorderedByQuantity() throws Exception {
+        Item five = new RetailItem("five", "", 5, 2.00, 1.00, 0);
+        Item ten = new RetailItem("ten", "", 10, 2.00, 1.00, 0);
+        inventory.add(five);
+        inventory.add(ten);
+        itemList = new ItemList(inventory);
+        itemList.printListSortedByCostPrice(itemList.getItemList());
+
+        itemList.sellOrRestockItem("ten", 8, "sell");
+        itemList.printListSortedByCostPrice(itemList.getItemList());
+        itemList.deleteItem(1);
+
+        assertEquals(1, itemList.getItemCount());
+        assertSame(five, itemList.getItemList().get(0));
+    }
+
+    @Test
+    void printListSortedBySalePrice_updatedQuantityWithEqualSalePrice_reorderedByQuantity() throws Exception {
+        Item five = new RetailItem("five", "", 5, 2.00, 1.00, 0);
+        Item ten = new RetailItem("ten", "", 10, 2.00, 1.00, 0);
+        inventory.add(five);
+        inventory.add(ten);
+        itemList = new ItemList(inventory);
+        itemList.printListSortedBySalePrice(itemList.getItemList());
+
+        itemList.updateItemDataByName("five", null, 20, LocalDate.MIN, Double.MIN_VALUE, Double.MIN_VALUE,
+                Integer.MIN_VALUE);
+        itemList.printListSortedBySalePrice(itemList.getItemList());
+        itemList.deleteItem(1);
+
+        assertEquals(1, itemList.getItemCount());
+        assertSame(five, itemList.getItemList().get(0));
+    }
+
+    @Test
+    void deleteItem_nameWithSurroundingWhitespace_deletedByTrimmedName() {
+        inventory.add(new OperationalItem("  milk ", "", 1, 1.00));
+        itemList = new ItemList(inventory);
+
+        itemList.deleteItem("milk");
+
+        assertEquals(0, itemList.getItemCount());
+        assertEquals("Item not found! Nothing was deleted!", itemList.deleteItem("milk"));
+    }
+
+    @Test
+    void deleteItem_nameOfItemNotInPrintedList_itemDeleted() {
+        Item bread = new OperationalItem("bread", "", 1, 1.00);
+        inventory.add(bread);
+        inventory.add(new OperationalItem("milk", "", 1, 1.00));
+        itemList = new ItemList(inventory);
+        itemList.printList(itemList.getSearchAssistant().searchByName("bread").getFoundItems());
+
+        itemList.deleteItem("milk");
+
+        assertEquals(1, itemList.getItemCount());
+        assertSame(bread, itemList.getItemList().get(0));
+    }
+
+    @Test
+    void sellOrRestockItem_indexOfDeletedItem_throwsException() {
+        inventory.add(new RetailItem("testItem1", "Test item 1", 2, 4.00, 5.00, 6));
+        itemList = new ItemList(inventory);
+        itemList.deleteItem("testItem1");
+
+        assertThrows(InvalidCommandException.class, () -> itemList.sellOrRestockItem(1, 1, "sell"));
+    }
+
+    @Test
+    void deleteItem_indexOfPrintedSearchResult_foundItemRemoved() {
+        inventory.add(new OperationalItem("bread", "", 1, 1.00));
+        inventory.add(new OperationalItem("milk", "", 1, 1.00));
+        itemList = new ItemList(inventory);
+        itemList.printList(itemList.getSearchAssistant().searchByName("milk").getFoundItems());
+
+        itemList.deleteItem(1);
+
+        assertEquals(1, itemList.getItemCount());
+        assertEquals("bread", itemList.getItemList().get(0).getItemName());
+    }
+
+    @Test
+    void deleteItem_indexOfItemReaddedUnderSameName_returnItemAlreadyDeleted() {
+        inventory.add(new OperationalItem("bread", "", 1, 1.00));
+        itemList = new ItemList(inventory);
+        itemList.deleteItem("bread");
+        itemList.addItem("operational", "bread", "", 1, LocalDate.MIN, 0.00, 1.00, 0);
+
+        // Index 1 still refers to the deleted item, and index 2 to the new one
+        assertEquals("Item has already been deleted!", itemList.deleteItem(1));
+        assertTrue(itemList.deleteItem(2).startsWith("Got it!"));
+        assertEquals(0, itemList.getItemCount());
+    }
+
+    @Test
+    void addItem_sameDetailsAsDeletedItem_newItemId() {
+        itemList = new ItemList(inventory);
+        itemList.addItem("operational", "bread", "", 1, LocalDate.MIN, 0.00, 1.00, 0);
+        int deletedItemId = itemList.getItemList().get(0).getItemId();
+        itemList.deleteItem(1);
+
+        itemList.addItem("operational", "bread", "", 1, LocalDate.MIN, 0.00, 1.00, 0);
+
+        assertTrue(itemList.getItemList().get(0).getItemId() != deletedItemId);
+    }
+
     @Test
     void deleteItem_deleteItemTwiceByName_returnNoItemFound() {
         inventory.add(new PerishableRetailItem("testItem1", "Test item 1", 2,
@@ -99,6 +229,50 @@ class ItemListTest {
         assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    void findItemByName_itemLoadedIntoItemList_returnsItem() throws InvalidCommandException {
+        Item testItem = new RetailItem("testItem1", "Test item 1", 2, 4.00, 5.00, 6);
+        inventory.add(testItem);
+        itemList = new ItemList(inventory);
+
+        assertEquals(testItem, itemList.findItemByName("testItem1"));
+    }
+
+    @Test
+    void findItemByName_itemDeletedByIndex_throwsException() {
+        inventory.add(new RetailItem("testItem1", "Test item 1", 2, 4.00, 5.00, 6));
+        itemList = new ItemList(inventory);
+
+        itemList.deleteItem(1);
+
+        assertThrows(InvalidCommandException.class, () -> itemList.findItemByName("testItem1"));
+    }
+
+    @Test
+    void addItem_nameOfDeletedItem_itemAdded() throws InvalidCommandException {
+        inventory.add(new RetailItem("testItem1", "Test item 1", 2, 4.00, 5.00, 6));
+        itemList = new ItemList(inventory);
+
+        itemList.deleteItem("testItem1");
+        itemList.addItem("operational", "testItem1", "Test item 2", 3, LocalDate.MIN, 0.0, 2.00, 1);
+
+        assertEquals(1, itemList.getItemCount());
+        assertTrue(itemList.findItemByName("testItem1") instanceof OperationalItem);
+    }
+
+    @Test
+    void addItem_duplicateName_itemNotAdded() {
+        inventory.add(new RetailItem("testItem1", "Test item 1", 2, 4.00, 5.00, 6));
+        itemList = new ItemList(inventory);
+
+        String actualOutput = itemList.addItem("retail", "testItem1", "Test item 2", 3, LocalDate.MIN,
+                3.00, 2.00, 1);
+
+        assertEquals("An item with the name 'testItem1' already exists in the inventory. "
+                + "Please use a different name.", actualOutput);
+        assertEquals(1, itemList.getItemCount());
+    }
+
     @Test
     void addItem_noItemInItemList_oneItemInItemList() {
         itemList = new ItemList(inventory);
@@ -238,6 +412,73 @@ class ItemListTest {
         assertEquals(expectedOutput,actualOutput);
     }
 
+    @Test
+    void printListSortedByCostPrice_costPriceUpdatedAfterListing_listedInNewOrder() throws InvalidCommandException {
+        inventory.add(new OperationalItem("cheap", "", 1, 1.00));
+        inventory.add(new OperationalItem("dear", "", 1, 9.00));
+        itemList = new ItemList(inventory);
+        itemList.printListSortedByCostPrice(itemList.getItemList());
+
+        itemList.updateItemDataByName("cheap", null, Integer.MIN_VALUE, LocalDate.MIN, Double.MIN_VALUE,
+                10.00, Integer.MIN_VALUE);
+        String actualOutput = itemList.printListSortedByCostPrice(itemList.getItemList());
+
+        assertTrue(actualOutput.startsWith("1. [O] dear"));
+        assertTrue(actualOutput.contains("2. [O] cheap"));
+    }
+
+    @Test
+    void printListSortedByProfit_itemSoldAfterListing_listedInNewOrder() throws InvalidCommandException {
+        inventory.add(new RetailItem("first", "", 10, 2.00, 1.00, 0));
+        inventory.add(new RetailItem("second", "", 10, 2.00, 1.00, 0));
+        itemList = new ItemList(inventory);
+        itemList.printListSortedByProfit(itemList.getItemList());
+
+        itemList.sellOrRestockItem("first", 10, "sell");
+        String actualOutput = itemList.printListSortedByProfit(itemList.getItemList());
+
+        // Sorted in ascending order of profit, so the item that made a profit comes last
+        assertTrue(actualOutput.startsWith("1. [R] second"));
+        assertTrue(actualOutput.contains("2. [R] first"));
+    }
+
+    @Test
+    void printList_lastPage_pageItemsNumberedByIndexInList() {
+        for (int i = 1; i <= 5; i++) {
+            inventory.add(new OperationalItem("item" + i, "", 1, 1.00));
+        }
+        itemList = new ItemList(inventory);
+
+        String actualOutput = itemList.printList(itemList.getItemList(), Integer.MAX_VALUE, 3, 2);
+
+        assertTrue(actualOutput.startsWith("5. [O] item5"));
+        assertTrue(actualOutput.endsWith("Page 3 of 3, showing items 5 to 5 of 5."));
+        assertTrue(!actualOutput.contains("item4"));
+    }
+
+    @Test
+    void printList_pageOutOfRange_returnsOutOfRangeMessage() {
+        inventory.add(new OperationalItem("item", "", 1, 1.00));
+        itemList = new ItemList(inventory);
+
+        String actualOutput = itemList.printList(itemList.getItemList(), Integer.MAX_VALUE, 2, 10);
+
+        assertEquals("Page 2 is out of range! There is only 1 page.", actualOutput);
+    }
+
+    @Test
+    void deleteItem_indexOnPrintedPage_itemAtIndexInWholeListDeleted() {
+        for (int i = 1; i <= 5; i++) {
+            inventory.add(new OperationalItem("item" + i, "", 1, 6 - i));
+        }
+        itemList = new ItemList(inventory);
+        itemList.printListSortedByCostPrice(itemList.getItemList(), Integer.MAX_VALUE, 2, 2);
+
+        String actualOutput = itemList.deleteItem(3);
+
+        assertTrue(actualOutput.contains("item3"));
+    }
+
     @Test
     void printListSortedByExpiryDate_unsortedListByExpiryDate_returnsSortedList() {
         inventory.add(new PerishableRetailItem("testItem1", "Test item", 2,
@@ -429,6 +670,19 @@ class ItemListTest {
         assertEquals(newThreshold, updatedItem.getItemThreshold());
     }
 
+    @Test
+    void updateItemDataByIndex_newDescription_lowerCaseDescriptionRefreshed() throws Exception {
+        inventory.add(new OperationalItem("Test Item", "A Test Item", 10, 5.0, 2));
+        itemList = new ItemList(inventory);
+
+        itemList.updateItemDataByIndex(1, "An UPDATED Item", Integer.MIN_VALUE, LocalDate.MIN,
+                Double.MIN_VALUE, Double.MIN_VALUE, Integer.MIN_VALUE);
+
+        Item updatedItem = itemList.getItemList().get(0);
+        assertEquals("test item", updatedItem.getLowerCaseItemName());
+        assertEquals("an updated item", updatedItem.getLowerCaseItemDescription());
+    }
+
     @Test
     void updateItemDataByName_invalidItemName_throwsException() {
         itemList = new ItemList(inventory);
@@ -525,44 +779,108 @@ class ItemListTest {
 
     @Test
     void getTotalRevenue_multipleRetailItems_correctTotalRevenue() {
-        itemList = new ItemList(inventory);
         RetailItem item1 = new RetailItem("Item1", "Description1", 10, 20.0, 10.0, 5);
         RetailItem item2 = new RetailItem("Item2", "Description2", 5, 15.0, 7.0, 3);
         item1.setTotalUnitsSold(10);
         item2.setTotalUnitsSold(5);
-        itemList.getItemList().add(item1);
-        itemList.getItemList().add(item2);
+        inventory.add(item1);
+        inventory.add(item2);
+        itemList = new ItemList(inventory);
         assertEquals(275, itemList.getTotalRevenue());
     }
 
     @Test
     void getTotalCost_multipleOperationalItems_correctTotalCost() {
-        itemList = new ItemList(inventory);
         OperationalItem item1 = new OperationalItem("Item1", "Description1", 10, 10.0, 5);
         OperationalItem item2 = new OperationalItem("Item2", "Description2", 5, 7.0, 3);
         item1.setTotalUnitsPurchased(10);
         item2.setTotalUnitsPurchased(5);
-        itemList.getItemList().add(item1);
-        itemList.getItemList().add(item2);
+        inventory.add(item1);
+        inventory.add(item2);
+        itemList = new ItemList(inventory);
         assertEquals(135, itemList.getTotalCost());
     }
 
     @Test
     void getProfitMargin_multipleItems_correctProfitMargin() {
-        itemList = new ItemList(inventory);
         RetailItem item1 = new RetailItem("Item1", "Description1", 10, 20.0, 10.0, 5);
         OperationalItem item2 = new OperationalItem("Item2", "Description2", 5, 7.0, 3);
         item1.setTotalUnitsSold(10);
         item1.setTotalUnitsPurchased(10);
         item2.setTotalUnitsPurchased(5);
-        itemList.getItemList().add(item1);
-        itemList.getItemList().add(item2);
+        inventory.add(item1);
+        inventory.add(item2);
+        itemList = new ItemList(inventory);
         assertEquals("Here are your metrics: " + System.lineSeparator()
                 + "\tTotal Cost: 135.00" + System.lineSeparator()
                 + "\tTotal Revenue: 200.00" + System.lineSeparator()
                 + "\tNet Profit: 65.00" + System.lineSeparator() , itemList.getProfitMargin());
     }
 
+    @Test
+    void getTotalRevenueInCents_manySalesOfTenCents_exactTotal() throws InvalidCommandException {
+        itemList = new ItemList(inventory);
+        itemList.addItem("retail", "Sweet", "", 1000, LocalDate.MIN, 0.10, 0.07, 0);
+        for (int i = 0; i < 1000; i++) {
+            itemList.sellOrRestockItem("Sweet", 1, SellCommand.COMMAND);
+        }
+
+        // A double total of 0.10 added 1000 times would come to 99.9999999999986
+        assertEquals(10000, itemList.getTotalRevenueInCents());
+        assertEquals(7000, itemList.getTotalCostInCents());
+        assertEquals(100.0, itemList.getTotalRevenue());
+    }
+
+    @Test
+    void getTotals_afterRandomChanges_matchFullRecompute() throws InvalidCommandException {
+        itemList = new ItemList(inventory);
+        Random random = new Random(2323);
+        for (int i = 0; i < 2000; i++) {
+            String itemName = "Item" + random.nextInt(50);
+            double price = random.nextInt(10000) / 100.0;
+            switch (random.nextInt(6)) {
+            case 0:
+                itemList.addItem(random.nextBoolean() ? "retail" : "operational", itemName, "", random.nextInt(100),
+                        LocalDate.MIN, price, random.nextInt(10000) / 100.0, 0);
+                break;
+            case 1:
+                itemList.deleteItem(itemName);
+                break;
+            case 2:
+                try {
+                    itemList.sellOrRestockItem(itemName, random.nextInt(5), SellCommand.COMMAND);
+                } catch (InvalidCommandException e) {
+                    // Items that are not found, operational or out of stock are not sold
+                }
+                break;
+            case 3:
+                try {
+                    itemList.sellOrRestockItem(itemName, random.nextInt(50), RestockCommand.COMMAND);
+                } catch (InvalidCommandException e) {
+                    // Items that are not found are not restocked
+                }
+                break;
+            case 4:
+                try {
+                    itemList.updateItemDataByName(itemName, null, Integer.MIN_VALUE, LocalDate.MIN, price,
+                            Double.MIN_VALUE, Integer.MIN_VALUE);
+                } catch (InvalidCommandException e) {
+                    // Items that are not found or operational have no sale price to update
+                }
+                break;
+            default:
+                try {
+                    itemList.updateItemDataByName(itemName, null, Integer.MIN_VALUE, LocalDate.MIN,
+                            Double.MIN_VALUE, price, Integer.MIN_VALUE);
+                } catch (InvalidCommandException e) {
+                    // Items that are not found have no cost price to update
+                }
+            }
+            assertEquals(itemList.computeTotalRevenueInCents(), itemList.getTotalRevenueInCents());
+            assertEquals(itemList.computeTotalCostInCents(), itemList.getTotalCostInCents());
+        }
+    }
+
     @Test
     void toString_oneItemInList_returnList() {
         inventory.add(new PerishableRetailItem("testItem1", "Test item 1", 2,
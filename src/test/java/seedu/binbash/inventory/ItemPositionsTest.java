@@ -0,0 +1,47 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+class ItemPositionsTest {
+    private final ItemPositions itemPositions = new ItemPositions();
+
+    @Test
+    void getPosition_itemsBeforeRemoved_positionsShiftDown() {
+        for (int i = 0; i < 5; i++) {
+            itemPositions.append();
+        }
+
+        itemPositions.remove(1);
+        itemPositions.remove(3);
+
+        assertEquals(0, itemPositions.getPosition(0));
+        assertEquals(1, itemPositions.getPosition(2));
+        assertEquals(2, itemPositions.getPosition(4));
+    }
+
+    @Test
+    void getPosition_randomAppendsAndRemoves_sameAsPositionInList() {
+        Random random = new Random(1717);
+        ArrayList<Integer> itemNumbers = new ArrayList<>();
+        int nextItemNumber = 0;
+        for (int i = 0; i < 5000; i++) {
+            if (itemNumbers.isEmpty() || random.nextInt(3) > 0) {
+                itemPositions.append();
+                itemNumbers.add(nextItemNumber++);
+            } else {
+                itemPositions.remove(itemNumbers.remove(random.nextInt(itemNumbers.size())));
+            }
+            if (itemNumbers.isEmpty()) {
+                continue;
+            }
+
+            int position = random.nextInt(itemNumbers.size());
+            assertEquals(position, itemPositions.getPosition(itemNumbers.get(position)));
+        }
+    }
+}
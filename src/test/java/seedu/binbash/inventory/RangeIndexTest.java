@@ -0,0 +1,74 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+
+import java.util.ArrayList;
+
+class RangeIndexTest {
+    private final RangeIndex<Integer> quantityIndex = new RangeIndex<>(Item::getItemQuantity);
+
+    @Test
+    void collectBetween_boundsInclusive_itemsOnBoundsCollected() {
+        Item five = new OperationalItem("five", "", 5, 1.00);
+        Item ten = new OperationalItem("ten", "", 10, 1.00);
+        Item fifteen = new OperationalItem("fifteen", "", 15, 1.00);
+        quantityIndex.add(five);
+        quantityIndex.add(ten);
+        quantityIndex.add(fifteen);
+
+        ArrayList<Item> items = new ArrayList<>();
+        quantityIndex.collectBetween(5, 10, items);
+
+        assertEquals(2, items.size());
+        assertEquals(2, quantityIndex.countBetween(5, 10, Integer.MAX_VALUE));
+        assertEquals(2, quantityIndex.countBetween(10, null, Integer.MAX_VALUE));
+        assertEquals(1, quantityIndex.countBetween(null, 9, Integer.MAX_VALUE));
+        assertEquals(0, quantityIndex.countBetween(11, 9, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void reindex_fieldChanged_itemFoundUnderNewValueOnly() {
+        Item item = new OperationalItem("item", "", 5, 1.00);
+        quantityIndex.add(item);
+
+        item.setItemQuantity(50);
+        quantityIndex.reindex(item);
+
+        ArrayList<Item> items = new ArrayList<>();
+        quantityIndex.collectBetween(50, 50, items);
+        assertEquals(1, items.size());
+        assertSame(item, items.get(0));
+        assertEquals(0, quantityIndex.countBetween(5, 5, Integer.MAX_VALUE));
+        assertEquals(1, quantityIndex.size());
+    }
+
+    @Test
+    void countBetween_moreItemsThanLimit_limitReturned() {
+        for (int i = 0; i < 100; i++) {
+            quantityIndex.add(new OperationalItem("item" + i, "", i % 3, 1.00));
+        }
+
+        assertEquals(10, quantityIndex.countBetween(0, 2, 10));
+        assertEquals(34, quantityIndex.countBetween(0, 0, 1000));
+    }
+
+    @Test
+    void remove_itemsWithEqualValues_onlyRemovedItemDropped() {
+        Item first = new OperationalItem("first", "", 5, 1.00);
+        Item second = new OperationalItem("second", "", 5, 1.00);
+        quantityIndex.add(first);
+        quantityIndex.add(second);
+
+        quantityIndex.remove(first);
+
+        ArrayList<Item> items = new ArrayList<>();
+        quantityIndex.collectBetween(null, null, items);
+        assertEquals(1, items.size());
+        assertSame(second, items.get(0));
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.binbash.inventory;
 
+import seedu.binbash.command.RestockCommand;
+import seedu.binbash.command.SellCommand;
+import seedu.binbash.exceptions.InvalidCommandException;
 import seedu.binbash.item.Item;
 import seedu.binbash.item.OperationalItem;
 import seedu.binbash.item.PerishableOperationalItem;
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Assertions;
 
 import java.util.ArrayList;
+import java.util.Random;
 import java.time.LocalDate;
 
 public class SearchAssistantTest {
@@ -153,4 +157,272 @@ public class SearchAssistantTest {
             .getFoundItems(Integer.MAX_VALUE);
         Assertions.assertEquals(testItemList.size(), foundItems.size());
     }
+
+    @Test
+    public void getFoundItems_moreMatchesThanResultsWanted_searchStopsAtLastResult() {
+        int[] namesRead = {0};
+        ArrayList<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new OperationalItem("Item " + i, "", 1, 1.00) {
+                @Override
+                public String getLowerCaseItemName() {
+                    namesRead[0]++;
+                    return super.getLowerCaseItemName();
+                }
+            });
+        }
+        searchAssistant.setFoundItems(items);
+
+        ArrayList<Item> foundItems = searchAssistant.searchByName("item")
+            .getFoundItems(3);
+        Assertions.assertEquals(3, foundItems.size());
+        Assertions.assertSame(items.get(2), foundItems.get(2));
+        Assertions.assertEquals(3, namesRead[0]);
+    }
+
+    @Test
+    public void searchByQuantity_itemListAfterSellRestockAndDelete_indexedSearchFollowsChanges()
+            throws InvalidCommandException {
+        ItemList itemList = new ItemList(new ArrayList<>(testItemList));
+        itemList.sellOrRestockItem("Cavendish Banana", 25, SellCommand.COMMAND);
+        itemList.sellOrRestockItem("Meiji Full Fat Pasturized 1.5L", 20, RestockCommand.COMMAND);
+        itemList.deleteItem("Philips LED PLL 4P2G");
+
+        ArrayList<Item> foundItems = itemList.getSearchAssistant()
+            .searchByQuantityBetween(25, 40)
+            .getFoundItems();
+        Assertions.assertEquals(2, foundItems.size());
+        Assertions.assertSame(testItemList.get(5), foundItems.get(0));
+        Assertions.assertSame(testItemList.get(8), foundItems.get(1));
+    }
+
+    @Test
+    public void searchByCostPriceThenExpiryDate_itemListAfterUpdate_indexedSearchFollowsChanges()
+            throws InvalidCommandException {
+        ItemList itemList = new ItemList(new ArrayList<>(testItemList));
+        itemList.updateItemDataByName("Meiji Full Fat Pasturized 1.5L", null, Integer.MIN_VALUE,
+                LocalDate.of(2024, 3, 1), Double.MIN_VALUE, Double.MIN_VALUE, Integer.MIN_VALUE);
+        itemList.updateItemDataByName("Red Banana", null, Integer.MIN_VALUE,
+                LocalDate.of(2024, 2, 1), Double.MIN_VALUE, 3.00, Integer.MIN_VALUE);
+
+        ArrayList<Item> foundItems = itemList.getSearchAssistant()
+            .searchByCostPriceFrom(0.5)
+            .searchByExpiryDateBetween(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 2, 15))
+            .getFoundItems();
+        Assertions.assertEquals(1, foundItems.size());
+        Assertions.assertSame(testItemList.get(7), foundItems.get(0));
+    }
+
+    @Test
+    public void searchByRanges_randomItemsAndQueries_indexedSearchMatchesFullScan() {
+        Random random = new Random(1511);
+        ArrayList<Item> items = new ArrayList<>();
+        ItemList itemList = new ItemList(items);
+        for (int i = 0; i < 300; i++) {
+            LocalDate expiryDate = random.nextBoolean() ? LocalDate.MIN : LocalDate.of(2024, 1, 1)
+                    .plusDays(random.nextInt(60));
+            itemList.addItem(random.nextBoolean() ? "retail" : "operational", "item" + i, "", random.nextInt(50),
+                    expiryDate, random.nextInt(100) / 4.0, random.nextInt(100) / 4.0, 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            itemList.deleteItem("item" + random.nextInt(300));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int quantityFrom = random.nextBoolean() ? -1 : random.nextInt(50);
+            double costPriceTo = random.nextBoolean() ? Double.MAX_VALUE : random.nextInt(100) / 4.0;
+            double salePriceFrom = random.nextBoolean() ? Double.MIN_VALUE : random.nextInt(100) / 4.0;
+            LocalDate expiryDateTo = random.nextBoolean() ? LocalDate.MAX : LocalDate.of(2024, 1, 1)
+                    .plusDays(random.nextInt(60));
+
+            ArrayList<Item> indexedResult = itemList.getSearchAssistant()
+                .searchByQuantityFrom(quantityFrom)
+                .searchByCostPriceTo(costPriceTo)
+                .searchBySalePriceFrom(salePriceFrom)
+                .searchByExpiryDateTo(expiryDateTo)
+                .getFoundItems();
+            searchAssistant.setFoundItems(items);
+            ArrayList<Item> fullScanResult = searchAssistant.searchByQuantityFrom(quantityFrom)
+                .searchByCostPriceTo(costPriceTo)
+                .searchBySalePriceFrom(salePriceFrom)
+                .searchByExpiryDateTo(expiryDateTo)
+                .getFoundItems();
+            Assertions.assertEquals(fullScanResult, indexedResult);
+        }
+    }
+
+    @Test
+    public void getFoundItems_limitedSearchOnLargerItemList_sameNumberOfItemsChecked() {
+        Assertions.assertEquals(50, countItemsCheckedToFindFiveMilkItems(1000));
+        Assertions.assertEquals(50, countItemsCheckedToFindFiveMilkItems(100000));
+    }
+
+    @Test
+    public void searchByRanges_randomItemsAndLimitedQueries_indexedSearchMatchesFirstResultsOfFullScan() {
+        Random random = new Random(2017);
+        ArrayList<Item> items = new ArrayList<>();
+        ItemList itemList = new ItemList(items);
+        for (int i = 0; i < 500; i++) {
+            itemList.addItem("retail", "item" + i, "", random.nextInt(100), LocalDate.MIN,
+                    random.nextInt(100) / 4.0, random.nextInt(100) / 4.0, 0);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            int quantityFrom = random.nextInt(100);
+            int quantityTo = quantityFrom + random.nextInt(100);
+            double salePriceTo = random.nextInt(100) / 4.0;
+            int numberOfResults = 1 + random.nextInt(20);
+
+            ArrayList<Item> indexedResult = itemList.getSearchAssistant()
+                .searchByQuantityBetween(quantityFrom, quantityTo)
+                .searchBySalePriceTo(salePriceTo)
+                .getFoundItems(numberOfResults);
+            searchAssistant.setFoundItems(items);
+            ArrayList<Item> fullScanResult = searchAssistant.searchByQuantityBetween(quantityFrom, quantityTo)
+                .searchBySalePriceTo(salePriceTo)
+                .getFoundItems();
+            Assertions.assertEquals(fullScanResult.subList(0, Math.min(numberOfResults, fullScanResult.size())),
+                    indexedResult);
+        }
+    }
+
+    @Test
+    public void searchByNameAndDescription_randomItemsAndSubstrings_indexedSearchMatchesFullScan()
+            throws InvalidCommandException {
+        Random random = new Random(1409);
+        String[] words = {"Milk", "milky", "Bread", "banana", "Ban", "LED", "led tube", "Tube", "nan", "an"};
+        ArrayList<Item> items = new ArrayList<>();
+        ItemList itemList = new ItemList(items);
+        for (int i = 0; i < 300; i++) {
+            itemList.addItem("operational", words[random.nextInt(words.length)] + " " + i,
+                    words[random.nextInt(words.length)] + words[random.nextInt(words.length)], 1, LocalDate.MIN,
+                    0, 1.00, 0);
+        }
+        for (int i = 0; i < 100; i++) {
+            itemList.updateItemDataByName(items.get(random.nextInt(items.size())).getItemName(),
+                    words[random.nextInt(words.length)], Integer.MIN_VALUE, LocalDate.MIN, Double.MIN_VALUE,
+                    Double.MIN_VALUE, Integer.MIN_VALUE);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String word = words[random.nextInt(words.length)];
+            int start = random.nextInt(word.length());
+            String substring = word.substring(start, start + 1 + random.nextInt(word.length() - start));
+            boolean isNameSearch = random.nextBoolean();
+            int numberOfResults = 1 + random.nextInt(300);
+
+            SearchAssistant indexedSearch = itemList.getSearchAssistant();
+            searchAssistant.setFoundItems(items);
+            if (isNameSearch) {
+                indexedSearch.searchByName(substring);
+                searchAssistant.searchByName(substring);
+            } else {
+                indexedSearch.searchByDescription(substring);
+                searchAssistant.searchByDescription(substring);
+            }
+            Assertions.assertEquals(searchAssistant.getFoundItems(numberOfResults),
+                    indexedSearch.getFoundItems(numberOfResults));
+        }
+    }
+
+    @Test
+    public void searchByNameWithin_namesAtDifferentDistances_rankedClosestFirstThenInListOrder() {
+        ArrayList<Item> items = new ArrayList<>();
+        items.add(new OperationalItem("Silky", "", 1, 1.00));
+        items.add(new OperationalItem("Mill", "", 1, 1.00));
+        items.add(new OperationalItem("Milk", "", 1, 1.00));
+        items.add(new OperationalItem("Chalk", "", 1, 1.00));
+        items.add(new OperationalItem("milk", "", 1, 1.00));
+        ItemList itemList = new ItemList(items);
+
+        ArrayList<Item> foundItems = itemList.getSearchAssistant()
+            .searchByNameWithin("MILK", 2)
+            .getFoundItems();
+        Assertions.assertEquals(4, foundItems.size());
+        Assertions.assertSame(items.get(2), foundItems.get(0));
+        Assertions.assertSame(items.get(4), foundItems.get(1));
+        Assertions.assertSame(items.get(1), foundItems.get(2));
+        Assertions.assertSame(items.get(0), foundItems.get(3));
+    }
+
+    @Test
+    public void searchByNameWithinThenQuantity_misspeltName_nearMatchInRangeFound() {
+        ArrayList<Item> foundItems = searchAssistant.searchByNameWithin("red bananna", 1)
+            .searchByQuantityFrom(20)
+            .getFoundItems();
+        Assertions.assertEquals(1, foundItems.size());
+        Assertions.assertSame(testItemList.get(7), foundItems.get(0));
+    }
+
+    @Test
+    public void searchByNameWithin_randomItemsAndNames_indexedSearchMatchesFullScan()
+            throws InvalidCommandException {
+        Random random = new Random(1616);
+        ArrayList<Item> items = new ArrayList<>();
+        ItemList itemList = new ItemList(items);
+        for (int i = 0; i < 300; i++) {
+            itemList.addItem("operational", randomName(random), "", random.nextInt(10), LocalDate.MIN,
+                    0, 1.00, 0);
+        }
+        // Builds the edit distance index, which is then kept up to date
+        itemList.getSearchAssistant().searchByNameWithin("abc", 1).getFoundItems();
+        for (int i = 0; i < 100; i++) {
+            itemList.deleteItem(items.get(random.nextInt(items.size())).getItemName());
+        }
+        for (int i = 0; i < 200; i++) {
+            itemList.addItem("operational", randomName(random), "", random.nextInt(10), LocalDate.MIN,
+                    0, 1.00, 0);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String name = randomName(random);
+            int maxDistance = 1 + random.nextInt(3);
+            int quantityFrom = random.nextInt(10);
+            int numberOfResults = 1 + random.nextInt(100);
+
+            searchAssistant.setFoundItems(items);
+            Assertions.assertEquals(
+                    searchAssistant.searchByNameWithin(name, maxDistance).searchByQuantityFrom(quantityFrom)
+                        .getFoundItems(numberOfResults),
+                    itemList.getSearchAssistant().searchByNameWithin(name, maxDistance)
+                        .searchByQuantityFrom(quantityFrom).getFoundItems(numberOfResults));
+        }
+    }
+
+    private static String randomName(Random random) {
+        StringBuilder name = new StringBuilder();
+        int length = 2 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            name.append("abcdA".charAt(random.nextInt(5)));
+        }
+        return name.toString();
+    }
+
+    /**
+     * Returns the number of items checked to find the first five items out of an item list,
+     * in which every tenth item is described as milk.
+     */
+    private int countItemsCheckedToFindFiveMilkItems(int itemCount) {
+        int[] quantitiesRead = {0};
+        ArrayList<Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OperationalItem("Item " + i, i % 10 == 9 ? "Milk" : "Bread", 1, 1.00) {
+                @Override
+                public int getItemQuantity() {
+                    quantitiesRead[0]++;
+                    return super.getItemQuantity();
+                }
+            });
+        }
+        ItemList itemList = new ItemList(items);
+        quantitiesRead[0] = 0;
+
+        // The quantity is checked first, so it is read once for every item checked
+        ArrayList<Item> foundItems = itemList.getSearchAssistant()
+            .searchByQuantityFrom(0)
+            .searchByDescription("milk")
+            .getFoundItems(5);
+        Assertions.assertEquals(5, foundItems.size());
+        return quantitiesRead[0];
+    }
 }
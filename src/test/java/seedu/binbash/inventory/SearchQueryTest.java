@@ -0,0 +1,67 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+
+import java.time.LocalDate;
+
+class SearchQueryTest {
+    private final Item banana = new PerishableRetailItem("Cavendish Banana", "Whole bananas", 30,
+            LocalDate.of(2024, 1, 4), 0.50, 0.40);
+    private final Item ledTube = new OperationalItem("Philips LED PLL 4P2G", "LED tubes for warehouse lighting", 30,
+            10.20);
+
+    @Test
+    void test_newQuery_matchesEveryItem() {
+        SearchQuery query = new SearchQuery();
+
+        assertTrue(query.isMatchAll());
+        assertTrue(query.test(banana));
+        assertTrue(query.test(ledTube));
+    }
+
+    @Test
+    void test_boundsNarrowedTwice_tightestBoundsApplied() {
+        SearchQuery query = new SearchQuery();
+        query.raiseCostPriceFrom(0.10);
+        query.raiseCostPriceFrom(1.00);
+        query.lowerCostPriceTo(20);
+        query.lowerCostPriceTo(15);
+
+        assertFalse(query.isMatchAll());
+        assertFalse(query.test(banana));
+        assertTrue(query.test(ledTube));
+    }
+
+    @Test
+    void test_salePriceOrExpiryDateRange_itemsWithoutFieldNotMatched() {
+        SearchQuery salePriceQuery = new SearchQuery();
+        salePriceQuery.lowerSalePriceTo(Double.POSITIVE_INFINITY);
+        SearchQuery expiryDateQuery = new SearchQuery();
+        expiryDateQuery.raiseExpiryDateFrom(LocalDate.MIN);
+
+        assertTrue(salePriceQuery.test(banana));
+        assertFalse(salePriceQuery.test(ledTube));
+        assertTrue(expiryDateQuery.test(banana));
+        assertFalse(expiryDateQuery.test(ledTube));
+    }
+
+    @Test
+    void test_nameAndDescriptionSubstrings_allSubstringsMatchedIgnoringCase() {
+        SearchQuery query = new SearchQuery();
+        query.addNameSubstring("PHILIPS");
+        query.addNameSubstring("led");
+        query.addDescriptionSubstring("Warehouse");
+
+        assertTrue(query.test(ledTube));
+        assertFalse(query.test(banana));
+
+        query.addExactName("Philips LED");
+        assertFalse(query.test(ledTube));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.binbash.enums.SortOptionEnum;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+import seedu.binbash.item.PerishableOperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+import seedu.binbash.item.RetailItem;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class SortedViewsTest {
+    private final SortedViews sortedViews = new SortedViews();
+    private final Item operationalItem = new OperationalItem("operational", "", 1, 3.00);
+    private final Item retailItem = new RetailItem("retail", "", 1, 4.00, 2.00, 0);
+    private final List<Item> items = new ArrayList<>(List.of(operationalItem, retailItem));
+
+    @Test
+    void get_viewNotInvalidated_sameViewReturned() {
+        List<Item> view = sortedViews.get(SortOptionEnum.COST, items);
+
+        assertSame(view, sortedViews.get(SortOptionEnum.COST, items));
+        assertEquals(List.of(retailItem, operationalItem), view);
+    }
+
+    @Test
+    void get_itemInViewInvalidated_viewSortedAgain() {
+        List<Item> view = sortedViews.get(SortOptionEnum.COST, items);
+        retailItem.setItemCostPrice(5.00);
+
+        sortedViews.invalidate(retailItem, SortOptionEnum.COST);
+
+        List<Item> sortedAgain = sortedViews.get(SortOptionEnum.COST, items);
+        assertNotSame(view, sortedAgain);
+        assertEquals(List.of(operationalItem, retailItem), sortedAgain);
+    }
+
+    @Test
+    void get_itemNotInViewInvalidated_sameViewReturned() {
+        List<Item> view = sortedViews.get(SortOptionEnum.SALE, items);
+
+        sortedViews.invalidate(operationalItem, SortOptionEnum.values());
+
+        assertSame(view, sortedViews.get(SortOptionEnum.SALE, items));
+        assertEquals(List.of(retailItem), view);
+    }
+
+    @Test
+    void get_otherViewInvalidated_sameViewReturned() {
+        List<Item> view = sortedViews.get(SortOptionEnum.SALE, items);
+
+        sortedViews.invalidate(retailItem, SortOptionEnum.COST);
+
+        assertSame(view, sortedViews.get(SortOptionEnum.SALE, items));
+    }
+
+    @Test
+    void getFirst_viewCached_firstItemsOfView() {
+        List<Item> view = sortedViews.get(SortOptionEnum.COST, items);
+
+        assertEquals(view.subList(0, 1), sortedViews.getFirst(SortOptionEnum.COST, items, 1));
+    }
+
+    @Test
+    void getFirst_randomItemsWithEqualKeys_sameAsFirstItemsOfFullSort() {
+        Random random = new Random(2222);
+        List<Item> randomItems = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            // Few distinct values, so that many items have equal keys
+            int quantity = random.nextInt(3);
+            double costPrice = random.nextInt(4);
+            double salePrice = random.nextInt(4);
+            LocalDate expiryDate = LocalDate.of(2024, 1, 1 + random.nextInt(3));
+            switch (random.nextInt(4)) {
+            case 0:
+                randomItems.add(new OperationalItem("item" + i, "", quantity, costPrice));
+                break;
+            case 1:
+                randomItems.add(new PerishableOperationalItem("item" + i, "", quantity, expiryDate, costPrice, 0));
+                break;
+            case 2:
+                randomItems.add(new RetailItem("item" + i, "", quantity, salePrice, costPrice, 0));
+                break;
+            default:
+                randomItems.add(new PerishableRetailItem("item" + i, "", quantity, expiryDate, salePrice,
+                        costPrice, 0));
+            }
+        }
+
+        for (SortOptionEnum sortOption : List.of(SortOptionEnum.COST, SortOptionEnum.SALE, SortOptionEnum.EXPIRY,
+                SortOptionEnum.PROFIT)) {
+            List<Item> sortedItems = SortedViews.sort(sortOption, randomItems);
+            for (int limit : new int[]{1, 7, 50, 1000}) {
+                List<Item> expectedItems = sortedItems.subList(0, Math.min(limit, sortedItems.size()));
+                assertEquals(expectedItems, new SortedViews().getFirst(sortOption, randomItems, limit));
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.binbash.inventory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+class TrigramIndexTest {
+    private final TrigramIndex descriptionIndex = new TrigramIndex();
+
+    @Test
+    void forEachContaining_substringOfText_itemFoundAndTextKept() {
+        String text = "led tubes for warehouse lighting";
+        descriptionIndex.add(0, "black writing pen");
+        descriptionIndex.add(1, text);
+
+        assertEquals(List.of(1), findItemsContaining("warehouse"));
+        assertSame(text, descriptionIndex.getLowerCaseText(1));
+    }
+
+    @Test
+    void forEachContaining_everyTrigramButNotSubstring_itemNotFound() {
+        descriptionIndex.add(0, "abc bcd");
+
+        assertEquals(1, descriptionIndex.countCandidates("abcd", Integer.MAX_VALUE));
+        assertTrue(findItemsContaining("abcd").isEmpty());
+        assertEquals(0, descriptionIndex.countCandidates("xyz", Integer.MAX_VALUE));
+    }
+
+    @Test
+    void forEachContaining_itemsAddedOutOfOrder_itemNumbersInAscendingOrder() {
+        descriptionIndex.add(5, "banana");
+        descriptionIndex.add(2, "bananas");
+        descriptionIndex.add(9, "banana bread");
+        descriptionIndex.add(7, "bread");
+
+        assertEquals(List.of(2, 5, 9), findItemsContaining("ana"));
+    }
+
+    @Test
+    void reindex_descriptionChanged_itemFoundUnderNewDescriptionOnly() {
+        descriptionIndex.add(0, "black writing pen");
+
+        descriptionIndex.reindex(0, "blue marker");
+
+        assertTrue(findItemsContaining("pen").isEmpty());
+        assertEquals(List.of(0), findItemsContaining("marker"));
+    }
+
+    @Test
+    void remove_itemRemoved_itemNoLongerFound() {
+        descriptionIndex.add(0, "whole milk");
+        descriptionIndex.add(1, "skimmed milk");
+
+        descriptionIndex.remove(0);
+
+        assertEquals(List.of(1), findItemsContaining("milk"));
+        assertNull(descriptionIndex.getLowerCaseText(0));
+    }
+
+    @Test
+    void forEachContaining_randomAddsRemovesAndReindexes_sameItemsAsCheckingEveryText() {
+        Random random = new Random(1414);
+        HashMap<Integer, String> texts = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            int itemNumber = random.nextInt(500);
+            String text = randomText(random, 1 + random.nextInt(12));
+            if (!texts.containsKey(itemNumber)) {
+                descriptionIndex.add(itemNumber, text);
+                texts.put(itemNumber, text);
+            } else if (random.nextBoolean()) {
+                descriptionIndex.reindex(itemNumber, text);
+                texts.put(itemNumber, text);
+            } else {
+                descriptionIndex.remove(itemNumber);
+                texts.remove(itemNumber);
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            String substring = randomText(random, 3 + random.nextInt(2));
+            ArrayList<Integer> expectedItemNumbers = new ArrayList<>();
+            for (int itemNumber = 0; itemNumber < 500; itemNumber++) {
+                String text = texts.get(itemNumber);
+                if (text != null && text.contains(substring)) {
+                    expectedItemNumbers.add(itemNumber);
+                }
+            }
+            assertEquals(expectedItemNumbers, findItemsContaining(substring));
+        }
+    }
+
+    @Test
+    void canLookUp_substringShorterThanTrigram_false() {
+        assertFalse(TrigramIndex.canLookUp("ab"));
+        assertTrue(TrigramIndex.canLookUp("abc"));
+    }
+
+    private List<Integer> findItemsContaining(String lowerCaseSubstring) {
+        ArrayList<Integer> itemNumbers = new ArrayList<>();
+        descriptionIndex.forEachContaining(lowerCaseSubstring, itemNumbers::add);
+        return itemNumbers;
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append("aabbc ".charAt(random.nextInt(6)));
+        }
+        return text.toString();
+    }
+}
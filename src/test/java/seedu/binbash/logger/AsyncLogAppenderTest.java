@@ -0,0 +1,104 @@
+package seedu.binbash.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+class AsyncLogAppenderTest {
+
+    @Test
+    void close_recordsAppended_allRecordsPublishedInOrder() {
+        RecordingHandler handler = new RecordingHandler(null);
+        AsyncLogAppender appender = new AsyncLogAppender(handler, 1000);
+
+        for (int i = 0; i < 500; i++) {
+            appender.append(new LogRecord(Level.INFO, "message " + i));
+        }
+        appender.close();
+
+        assertEquals(500, handler.messages.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("message " + i, handler.messages.get(i));
+        }
+        assertTrue(handler.isClosed);
+    }
+
+    @Test
+    void append_queueFull_recordDroppedAndCountPublished() throws InterruptedException {
+        CountDownLatch publishLatch = new CountDownLatch(1);
+        RecordingHandler handler = new RecordingHandler(publishLatch);
+        AsyncLogAppender appender = new AsyncLogAppender(handler, 1);
+
+        appender.append(new LogRecord(Level.INFO, "blocks the handler"));
+        // Waits for the first record to be taken off the queue, so that exactly one more fits in it
+        while (handler.publishStartedCount() == 0) {
+            Thread.sleep(1);
+        }
+        appender.append(new LogRecord(Level.INFO, "queued"));
+        appender.append(new LogRecord(Level.INFO, "dropped"));
+        publishLatch.countDown();
+        appender.close();
+
+        assertEquals(List.of("blocks the handler", "1 log records were dropped as logging fell behind.", "queued"),
+                handler.messages);
+    }
+
+    @Test
+    void append_afterClose_recordDropped() {
+        RecordingHandler handler = new RecordingHandler(null);
+        AsyncLogAppender appender = new AsyncLogAppender(handler, 10);
+
+        appender.close();
+        appender.append(new LogRecord(Level.INFO, "too late"));
+
+        assertEquals(0, handler.messages.size());
+    }
+
+    /**
+     * A handler that records the messages it publishes, optionally blocking on a latch before publishing.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch publishLatch;
+        private volatile int publishStartedCount = 0;
+        private boolean isClosed = false;
+
+        RecordingHandler(CountDownLatch publishLatch) {
+            this.publishLatch = publishLatch;
+        }
+
+        int publishStartedCount() {
+            return publishStartedCount;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            publishStartedCount++;
+            try {
+                if (publishLatch != null) {
+                    publishLatch.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
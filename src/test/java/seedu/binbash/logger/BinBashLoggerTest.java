@@ -0,0 +1,68 @@
+package seedu.binbash.logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+class BinBashLoggerTest {
+
+    private final BinBashLogger logger = new BinBashLogger(BinBashLoggerTest.class.getName());
+
+    @AfterEach
+    void tearDown() {
+        BinBashLogger.setMinimumLevel(Level.INFO);
+    }
+
+    @Test
+    void isLoggable_levelBelowMinimumLevel_returnsFalse() {
+        BinBashLogger.setMinimumLevel(Level.WARNING);
+
+        assertFalse(logger.isLoggable(Level.INFO));
+        assertTrue(logger.isLoggable(Level.WARNING));
+        assertTrue(logger.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    void isLoggable_minimumLevelOff_returnsFalseForEveryLevel() {
+        BinBashLogger.setMinimumLevel(Level.OFF);
+
+        assertFalse(logger.isLoggable(Level.SEVERE));
+    }
+
+    @Test
+    void info_supplierBelowMinimumLevel_supplierNotCalled() {
+        AtomicInteger callCount = new AtomicInteger();
+        BinBashLogger.setMinimumLevel(Level.WARNING);
+
+        logger.info(() -> "message " + callCount.incrementAndGet());
+        assertEquals(0, callCount.get());
+
+        logger.warning(() -> "message " + callCount.incrementAndGet());
+        assertEquals(1, callCount.get());
+    }
+
+    @Test
+    void info_formatBelowMinimumLevel_argumentsNotFormatted() {
+        AtomicInteger formatCount = new AtomicInteger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                return "argument " + formatCount.incrementAndGet();
+            }
+        };
+        BinBashLogger.setMinimumLevel(Level.SEVERE);
+
+        logger.info("Message with %s", argument);
+        logger.warning("Message with %s", argument);
+        assertEquals(0, formatCount.get());
+
+        logger.severe("Message with %s", argument);
+        assertEquals(1, formatCount.get());
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.binbash.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyTest {
+
+    @Test
+    void fromDollars_twoDecimalPlaces_exactCents() {
+        assertEquals(1999, Money.fromDollars(19.99));
+        assertEquals(7, Money.fromDollars(0.07));
+        assertEquals(29, Money.fromDollars(0.29));
+        assertEquals(0, Money.fromDollars(0.0));
+        assertEquals(-550, Money.fromDollars(-5.5));
+    }
+
+    @Test
+    void fromDollars_moreDecimalPlaces_nearestCent() {
+        assertEquals(1000, Money.fromDollars(9.996));
+        assertEquals(999, Money.fromDollars(9.994));
+    }
+
+    @Test
+    void fromDollars_tooLarge_saturates() {
+        assertEquals(Long.MAX_VALUE, Money.fromDollars(Double.MAX_VALUE));
+        assertEquals(Long.MIN_VALUE, Money.fromDollars(Double.NEGATIVE_INFINITY));
+    }
+
+    @Test
+    void toDollars_randomCents_convertsBackToSameCents() {
+        Random random = new Random(2424);
+        for (int i = 0; i < 10000; i++) {
+            long cents = random.nextLong() % 1_000_000_000_000L;
+            assertEquals(cents, Money.fromDollars(Money.toDollars(cents)));
+        }
+    }
+
+    @Test
+    void ceilCentsAndFloorCents_randomDollars_closestCentsWithinBound() {
+        Random random = new Random(2525);
+        for (int i = 0; i < 10000; i++) {
+            double dollars = (random.nextInt(2000000) - 1000000) / (random.nextBoolean() ? 100.0 : 1000.0);
+            long ceilCents = Money.ceilCents(dollars);
+            long floorCents = Money.floorCents(dollars);
+            assertTrue(Money.toDollars(ceilCents) >= dollars && Money.toDollars(ceilCents - 1) < dollars);
+            assertTrue(Money.toDollars(floorCents) <= dollars && Money.toDollars(floorCents + 1) > dollars);
+        }
+    }
+
+    @Test
+    void ceilCentsAndFloorCents_unboundedDollars_extremeCents() {
+        assertEquals(Long.MIN_VALUE, Money.ceilCents(Double.NEGATIVE_INFINITY));
+        assertEquals(Long.MAX_VALUE, Money.floorCents(Double.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, Money.ceilCents(Double.NaN));
+        assertEquals(Long.MIN_VALUE, Money.floorCents(Double.NaN));
+    }
+
+    @Test
+    void format_randomCents_sameAsFormattedDouble() {
+        Random random = new Random(2626);
+        for (int i = 0; i < 10000; i++) {
+            long cents = random.nextInt(20000000) - 10000000;
+            assertEquals(String.format("%.2f", Money.toDollars(cents)), Money.format(cents));
+        }
+    }
+
+    @Test
+    void format_smallAndExtremeCents_twoDecimalPlaces() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("-0.05", Money.format(-5));
+        assertEquals("-92233720368547758.08", Money.format(Long.MIN_VALUE));
+    }
+
+    @Test
+    void appendTo_stringBuilder_appendsAmount() {
+        StringBuilder output = new StringBuilder("Profit: ");
+
+        assertEquals("Profit: 12.30", Money.appendTo(output, 1230).toString());
+    }
+}
@@ -5,6 +5,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.binbash.command.ListCommand;
+import seedu.binbash.inventory.ItemList;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+
+import java.util.ArrayList;
 
 class ListCommandParserTest {
     ListCommandParser listCommandParser;
@@ -70,6 +75,56 @@ class ListCommandParserTest {
         }
     }
 
+    @Test
+    void parse_pageAndPageSizeOptions_pageOfListPrinted() throws ParseException {
+        ArrayList<Item> inventory = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            inventory.add(new OperationalItem("item" + i, "", 1, i));
+        }
+        ItemList itemList = new ItemList(inventory);
+
+        listCommand = listCommandParser.parse(new String[]{"-c", "--page", "2", "--page-size", "2"});
+        listCommand.execute(itemList);
+
+        String output = listCommand.getExecutionUiOutput();
+        Assertions.assertTrue(output.startsWith("3. [O] item3"));
+        Assertions.assertTrue(output.endsWith("Page 2 of 3, showing items 3 to 4 of 5."));
+    }
+
+    @Test
+    void parse_listOption_firstItemsPrinted() throws ParseException {
+        ArrayList<Item> inventory = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            inventory.add(new OperationalItem("item" + i, "", 1, 6 - i));
+        }
+        ItemList itemList = new ItemList(inventory);
+
+        listCommand = listCommandParser.parse(new String[]{"-c", "-l", "2"});
+        listCommand.execute(itemList);
+
+        String output = listCommand.getExecutionUiOutput();
+        Assertions.assertTrue(output.startsWith("1. [O] item5"));
+        Assertions.assertTrue(output.contains("2. [O] item4"));
+        Assertions.assertFalse(output.contains("item3"));
+    }
+
+    @Test
+    void parse_pageOptionOnly_defaultPageSize() throws ParseException {
+        ItemList itemList = new ItemList(new ArrayList<>());
+
+        listCommand = listCommandParser.parse(new String[]{"--page", "1"});
+        listCommand.execute(itemList);
+
+        Assertions.assertEquals("Page 1 of 1, showing no items.", listCommand.getExecutionUiOutput());
+    }
+
+    @Test
+    void parse_nonPositivePageSize_throwsParseException() {
+        Assertions.assertThrows(ParseException.class, () -> listCommandParser.parse(new String[]{"-ps", "0"}));
+        Assertions.assertThrows(ParseException.class, () -> listCommandParser.parse(new String[]{"-pg", "-1"}));
+        Assertions.assertThrows(ParseException.class, () -> listCommandParser.parse(new String[]{"-l", "0"}));
+    }
+
     @Test
     public void parse_repeatedParsing_noExceptionsThrown() {
         String[] commandArgs1 = {};
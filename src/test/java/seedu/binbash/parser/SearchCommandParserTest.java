@@ -71,6 +71,26 @@ public class SearchCommandParserTest {
         Assertions.assertEquals(thrown.getMessage(), "number of results must be positive");
     }
 
+    @Test
+    public void parse_fuzzyWithoutName_correctExceptionMessage() {
+        String[] invalidCommandArgs = new String[]{"-f", "1", "-d", "milk"};
+        ParseException thrown = Assertions.assertThrows(
+                ParseException.class, () -> {
+                    searchCommandParser.parse(invalidCommandArgs);
+                }, "ParseException was expected");
+        Assertions.assertEquals(thrown.getMessage(), "fuzzy option requires a name to search by");
+    }
+
+    @Test
+    public void parse_fuzzyDistanceOutOfRange_correctExceptionMessage() {
+        String[] invalidCommandArgs = new String[]{"-n", "milk", "-f", "4"};
+        ParseException thrown = Assertions.assertThrows(
+                ParseException.class, () -> {
+                    searchCommandParser.parse(invalidCommandArgs);
+                }, "ParseException was expected");
+        Assertions.assertEquals(thrown.getMessage(), "fuzzy distance must be between 1 and 3");
+    }
+
     @Test
     public void parse_quantityRangeSpecified_correctlyParsesQuantityRange() {
         String[] invalidCommandArgs = new String[]{"-q", "0..-0"};
@@ -0,0 +1,110 @@
+package seedu.binbash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.binbash.exceptions.BinBashException;
+import seedu.binbash.item.Item;
+import seedu.binbash.item.OperationalItem;
+import seedu.binbash.item.PerishableOperationalItem;
+import seedu.binbash.item.PerishableRetailItem;
+import seedu.binbash.item.RetailItem;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class BinarySnapshotTest {
+
+    @TempDir
+    Path dataDirectory;
+    private final Storage storage = new Storage();
+
+    @Test
+    void read_writtenItemsOfEveryType_expectSameItems() throws IOException, BinBashException {
+        OperationalItem operationalItem = new OperationalItem("Hammer", "Heavy Duty", 50, 19.99, 20);
+        operationalItem.setTotalUnitsPurchased(60);
+        PerishableOperationalItem perishableOperationalItem = new PerishableOperationalItem("Gloves",
+                "Heavy Duty", 30, LocalDate.of(2024, 12, 31), 0.1, 5);
+        RetailItem retailItem = new RetailItem("Book", "Science Fiction Novel", 10, 6.99, 5.99, 5);
+        retailItem.setTotalUnitsSold(80);
+        PerishableRetailItem perishableRetailItem = new PerishableRetailItem("Milk", "2L Whole Milk", 200,
+                LocalDate.of(2025, 2, 28), 2.99, 1.99, 50);
+        perishableRetailItem.setTotalUnitsPurchased(250);
+        perishableRetailItem.setTotalUnitsSold(50);
+        List<Item> items = Arrays.asList(operationalItem, perishableOperationalItem, retailItem,
+                perishableRetailItem);
+
+        ArrayList<Item> readItems = BinarySnapshot.read(writeSnapshot(items));
+
+        assertEquals(items.size(), readItems.size());
+        for (int i = 0; i < items.size(); i++) {
+            assertEquals(items.get(i).getClass(), readItems.get(i).getClass());
+            assertEquals(storage.generateStorageRepresentationOfSingleItem(items.get(i)),
+                    storage.generateStorageRepresentationOfSingleItem(readItems.get(i)));
+        }
+    }
+
+    @Test
+    void read_noItems_expectEmptyList() throws IOException, BinBashException {
+        assertEquals(0, BinarySnapshot.read(writeSnapshot(new ArrayList<>())).size());
+    }
+
+    @Test
+    void read_textDataFile_throwsBinBashException() throws IOException {
+        Path path = dataDirectory.resolve("items.bin");
+        Files.write(path, "RetailItem|Book|Science Fiction Novel|10|5.99|100|5| |6.99|80|".getBytes());
+
+        assertThrows(BinBashException.class, () -> BinarySnapshot.read(path));
+    }
+
+    @Test
+    void read_truncatedDataFile_throwsBinBashException() throws IOException {
+        Path path = writeSnapshot(List.of(new RetailItem("Book", "Science Fiction Novel", 10, 6.99, 5.99, 5)));
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(BinBashException.class, () -> BinarySnapshot.read(path));
+    }
+
+    @Test
+    void read_dataFileWithDoublePrices_expectPricesInCents() throws IOException, BinBashException {
+        byte[] name = "Book".getBytes(StandardCharsets.UTF_8);
+        byte[] description = "Science Fiction Novel".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(BinarySnapshot.MAGIC_NUMBER).putInt(BinarySnapshot.DOUBLE_PRICES_FORMAT_VERSION)
+                .putInt(1).putInt(2);
+        buffer.putInt(name.length).put(name).putInt(description.length).put(description);
+        buffer.put((byte) 2).putInt(0).putInt(1).putInt(10).putDouble(5.99).putInt(100).putInt(5).putLong(0)
+                .putDouble(6.99).putInt(80);
+        Path path = dataDirectory.resolve("items.bin");
+        Files.write(path, Arrays.copyOf(buffer.array(), buffer.position()));
+
+        ArrayList<Item> readItems = BinarySnapshot.read(path);
+
+        assertEquals(1, readItems.size());
+        RetailItem retailItem = (RetailItem) readItems.get(0);
+        assertEquals(599, retailItem.getItemCostPriceInCents());
+        assertEquals(699, retailItem.getItemSalePriceInCents());
+        assertEquals("RetailItem|Book|Science Fiction Novel|10|5.99|100|5| |6.99|80|",
+                storage.generateStorageRepresentationOfSingleItem(retailItem));
+    }
+
+    private Path writeSnapshot(List<Item> items) throws IOException {
+        Path path = dataDirectory.resolve("items.bin");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            BinarySnapshot.write(channel, items);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.binbash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+class LineTokenizerTest {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final int RUNS = 20000;
+
+    private final Random random = new Random(2113);
+
+    @Test
+    void countFields_randomLines_matchesSplit() {
+        for (int run = 0; run < RUNS; run++) {
+            String line = randomString("|| a", 8);
+            assertEquals(line.split("\\|").length, LineTokenizer.countFields(line), line);
+        }
+    }
+
+    @Test
+    void nextString_trailingEmptyFields_throwsArrayIndexOutOfBoundsException() {
+        LineTokenizer tokenizer = new LineTokenizer("RetailItem|Book||||");
+
+        assertEquals("RetailItem", tokenizer.nextString());
+        assertEquals("Book", tokenizer.nextString());
+        assertThrows(ArrayIndexOutOfBoundsException.class, tokenizer::nextString);
+    }
+
+    @Test
+    void nextInt_randomFields_matchesIntegerParseInt() {
+        for (int run = 0; run < RUNS; run++) {
+            String field = run % 2 == 0 ? String.valueOf(random.nextInt()) : randomString("+-0123456789 a", 12);
+            assertSameResult(parseOrError(() -> Integer.parseInt(field)),
+                    parseOrError(() -> new LineTokenizer(field).nextInt()), field);
+        }
+    }
+
+    @Test
+    void nextDouble_randomFields_matchesDoubleParseDouble() {
+        for (int run = 0; run < RUNS; run++) {
+            String field;
+            switch (run % 3) {
+            case 0:
+                field = String.valueOf(random.nextInt(100000) / 100.0);
+                break;
+            case 1:
+                field = String.valueOf(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+                break;
+            default:
+                field = randomString("+-.0123456789eEdN ", 20);
+                break;
+            }
+            assertSameResult(parseOrError(() -> Double.doubleToRawLongBits(Double.parseDouble(field))),
+                    parseOrError(() -> Double.doubleToRawLongBits(new LineTokenizer(field).nextDouble())), field);
+        }
+    }
+
+    @Test
+    void nextDate_everyDayAndMonth_matchesLocalDateParse() {
+        int[] years = {1, 1900, 2000, 2023, 2024, 9999};
+        for (int year : years) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    String field = String.format("%02d-%02d-%04d", day, month, year);
+                    assertSameResult(parseOrError(() -> LocalDate.parse(field, DATE_FORMAT)),
+                            parseOrError(() -> new LineTokenizer(field).nextDate(DATE_FORMAT)), field);
+                }
+            }
+        }
+    }
+
+    @Test
+    void nextDate_randomFields_matchesLocalDateParse() {
+        for (int run = 0; run < RUNS; run++) {
+            String field = randomString("-0123456789+", 12);
+            assertSameResult(parseOrError(() -> LocalDate.parse(field, DATE_FORMAT)),
+                    parseOrError(() -> new LineTokenizer(field).nextDate(DATE_FORMAT)), field);
+        }
+    }
+
+    @Test
+    void nextDate_yearZero_throwsDateTimeParseException() {
+        assertThrows(DateTimeParseException.class, () -> new LineTokenizer("01-01-0000").nextDate(DATE_FORMAT));
+    }
+
+    private String randomString(String alphabet, int maxLength) {
+        StringBuilder string = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            string.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return string.toString();
+    }
+
+    private Object parseOrError(ParseFunction parseFunction) {
+        try {
+            return parseFunction.parse();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    private void assertSameResult(Object expected, Object actual, String field) {
+        assertEquals(expected, actual, "Field: " + field);
+    }
+
+    private interface ParseFunction {
+        Object parse();
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.binbash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.binbash.item.Item;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+class ParallelTextLoaderTest {
+
+    @TempDir
+    Path dataDirectory;
+    private final Storage storage = new Storage();
+
+    @Test
+    void load_fileLargerThanOneChunk_expectItemsInLineOrder() throws IOException {
+        StringBuilder text = new StringBuilder();
+        int lineCount = 100000;
+        for (int i = 0; i < lineCount; i++) {
+            text.append("OperationalItem|item").append(i).append("|description|").append(i)
+                    .append("|5.0|15|2| | | |").append(System.lineSeparator());
+        }
+        ParallelTextLoader loader = new ParallelTextLoader(storage::tryConvertLineToItem, StandardCharsets.UTF_8);
+
+        ArrayList<Item> items = loader.load(writeTempFile(text.toString()));
+
+        assertEquals(lineCount, items.size());
+        for (int i = 0; i < lineCount; i++) {
+            assertEquals("item" + i, items.get(i).getItemName());
+        }
+        assertFalse(loader.isCorrupted());
+    }
+
+    @Test
+    void load_invalidLine_expectPartialListAndCorruptionFlag() throws IOException {
+        ParallelTextLoader loader = new ParallelTextLoader(storage::tryConvertLineToItem, StandardCharsets.UTF_8);
+
+        ArrayList<Item> items = loader.load(writeTempFile("OperationalItem|item1|description1|10|5.0|15|2| | | |\n"
+                + "OperationalItem|item2|description2|ten|5.0|15|2| | | |\n"
+                + "OperationalItem|item3|description3|10|5.0|15|2| | | |\n"));
+
+        assertEquals(2, items.size());
+        assertEquals("item3", items.get(1).getItemName());
+        assertTrue(loader.isCorrupted());
+    }
+
+    @Test
+    void load_mixedLineSeparatorsWithoutTrailingSeparator_expectEveryLineLoaded() throws IOException {
+        ParallelTextLoader loader = new ParallelTextLoader(storage::tryConvertLineToItem, StandardCharsets.UTF_8);
+
+        ArrayList<Item> items = loader.load(writeTempFile("OperationalItem|item1|description1|10|5.0|15|2| | | |\r\n"
+                + "OperationalItem|item2|description2|10|5.0|15|2| | | |\r"
+                + "OperationalItem|item3|description3|10|5.0|15|2| | | |"));
+
+        assertEquals(3, items.size());
+        assertFalse(loader.isCorrupted());
+    }
+
+    @Test
+    void load_emptyFile_expectEmptyList() throws IOException {
+        ParallelTextLoader loader = new ParallelTextLoader(storage::tryConvertLineToItem, StandardCharsets.UTF_8);
+
+        assertEquals(0, loader.load(writeTempFile("")).size());
+        assertFalse(loader.isCorrupted());
+    }
+
+    private Path writeTempFile(String text) throws IOException {
+        Path path = dataDirectory.resolve("items.txt");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+}
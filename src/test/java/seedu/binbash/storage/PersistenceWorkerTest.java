@@ -0,0 +1,102 @@
+package seedu.binbash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.binbash.enums.DurabilityLevelEnum;
+import seedu.binbash.exceptions.InvalidCommandException;
+import seedu.binbash.inventory.ItemList;
+import seedu.binbash.item.Item;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+class PersistenceWorkerTest {
+
+    @TempDir
+    Path dataDirectory;
+    private String dataDirectoryPath;
+
+    @BeforeEach
+    public void setUp() {
+        dataDirectoryPath = dataDirectory.toString() + File.separator;
+    }
+
+    @Test
+    void shutdown_burstOfChanges_allChangesSaved() throws InvalidCommandException {
+        Storage storage = new Storage(dataDirectoryPath);
+        ItemList itemList = new ItemList(storage.loadData());
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storage, itemList);
+        persistenceWorker.start();
+
+        for (int i = 0; i < 20; i++) {
+            synchronized (itemList) {
+                itemList.addItem("retail", "item" + i, "description", 10, LocalDate.MIN, 2.0, 1.0, 0);
+                itemList.sellOrRestockItem("item" + i, 3, "sell");
+            }
+            persistenceWorker.markDirty();
+        }
+        persistenceWorker.shutdown();
+
+        Storage nextSessionStorage = new Storage(dataDirectoryPath);
+        ArrayList<Item> loadedItems = nextSessionStorage.loadData();
+        nextSessionStorage.close();
+        assertEquals(20, loadedItems.size());
+        assertEquals("item19", loadedItems.get(19).getItemName());
+        assertEquals(7, loadedItems.get(19).getItemQuantity());
+    }
+
+    @Test
+    void shutdown_workerNeverStarted_changesStillSaved() {
+        Storage storage = new Storage(dataDirectoryPath);
+        ItemList itemList = new ItemList(storage.loadData());
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storage, itemList);
+
+        itemList.addItem("operational", "item", "description", 10, LocalDate.MIN, 0.0, 1.0, 0);
+        persistenceWorker.markDirty();
+        persistenceWorker.shutdown();
+        persistenceWorker.shutdown();
+
+        Storage nextSessionStorage = new Storage(dataDirectoryPath);
+        assertEquals(1, nextSessionStorage.loadData().size());
+        nextSessionStorage.close();
+    }
+
+    @Test
+    void run_periodicDurabilityAndNoFurtherChanges_journalForcedWithinInterval() throws InterruptedException {
+        CountDownLatch journalForced = new CountDownLatch(1);
+        AtomicBoolean hasUnforcedEntriesAfterForce = new AtomicBoolean(true);
+        Storage storage = new Storage(dataDirectoryPath) {
+            @Override
+            public void flush() {
+                super.flush();
+                hasUnforcedEntriesAfterForce.set(getMillisUntilJournalForceDue() != NO_FORCE_DUE);
+                journalForced.countDown();
+            }
+        };
+        storage.setDurabilityLevel(DurabilityLevelEnum.PERIODIC);
+        ItemList itemList = new ItemList(storage.loadData());
+        PersistenceWorker persistenceWorker = new PersistenceWorker(storage, itemList);
+        persistenceWorker.start();
+
+        synchronized (itemList) {
+            itemList.addItem("operational", "item", "description", 10, LocalDate.MIN, 0.0, 1.0, 0);
+        }
+        persistenceWorker.markDirty();
+
+        // The journal is opened by the first append, so that append is made within the interval and left unforced
+        boolean isForcedBeforeShutdown = journalForced.await(3, TimeUnit.SECONDS);
+        persistenceWorker.shutdown();
+        assertTrue(isForcedBeforeShutdown);
+        assertFalse(hasUnforcedEntriesAfterForce.get());
+    }
+}
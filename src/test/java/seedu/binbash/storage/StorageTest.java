@@ -8,14 +8,26 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.binbash.enums.DurabilityLevelEnum;
+import seedu.binbash.enums.SnapshotFormatEnum;
+import seedu.binbash.exceptions.InvalidCommandException;
+import seedu.binbash.inventory.ItemList;
 import seedu.binbash.item.Item;
 import seedu.binbash.item.OperationalItem;
 import seedu.binbash.item.PerishableOperationalItem;
 import seedu.binbash.item.PerishableRetailItem;
 import seedu.binbash.item.RetailItem;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
 class StorageTest {
 
@@ -84,6 +96,21 @@ class StorageTest {
         assertEquals(expected, storage.generateStorageRepresentationOfSingleItem(retailItem));
     }
 
+    @Test
+    public void writeItems_multipleItems_oneStorageRepresentationPerLine() throws IOException {
+        ArrayList<Item> itemList = new ArrayList<>();
+        itemList.add(new OperationalItem("item1", "description1", 10, 5.0, 2));
+        itemList.add(new PerishableRetailItem("item3", "description3", 30, LocalDate.of(2024, 11, 30),
+                15.0, 7.5, 10));
+        StringWriter writer = new StringWriter();
+
+        storage.writeItems(writer, itemList);
+
+        String expected = "OperationalItem|item1|description1|10|5.0|10|2| | | |" + System.lineSeparator()
+                + "PerishableRetailItem|item3|description3|30|7.5|30|10|30-11-2024|15.0|0|" + System.lineSeparator();
+        assertEquals(expected, writer.toString());
+    }
+
     @Test
     void convertLineToItem_operationalItemWithValidData_expectOperationalItem() {
         String validOperationalItem =
@@ -204,4 +231,199 @@ class StorageTest {
         assertInstanceOf(PerishableRetailItem.class, parsedItems.get(2));
         assertInstanceOf(RetailItem.class, parsedItems.get(3));
     }
+
+    @Test
+    void loadData_changesSavedToJournal_expectChangesReplayed(@TempDir Path dataDirectory)
+            throws IOException, InvalidCommandException {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        Storage firstSessionStorage = new Storage(dataDirectoryPath);
+        ItemList itemList = new ItemList(firstSessionStorage.loadData());
+
+        itemList.addItem("retail", "Milk", "2L Whole Milk", 200, LocalDate.MIN, 2.99, 1.99, 50);
+        itemList.addItem("operational", "Hammer", "Heavy Duty Hammer", 50, LocalDate.MIN, 0.0, 19.99, 20);
+        firstSessionStorage.saveChanges(itemList.drainPendingChanges(), itemList.getItemList());
+        itemList.sellOrRestockItem("Milk", 20, "sell");
+        itemList.deleteItem("Hammer");
+        firstSessionStorage.saveChanges(itemList.drainPendingChanges(), itemList.getItemList());
+        firstSessionStorage.close();
+
+        assertEquals("", new String(Files.readAllBytes(new File(dataDirectoryPath + "items.txt").toPath())));
+
+        Storage secondSessionStorage = new Storage(dataDirectoryPath);
+        ArrayList<Item> loadedItems = secondSessionStorage.loadData();
+        secondSessionStorage.close();
+
+        assertEquals(1, loadedItems.size());
+        RetailItem milk = (RetailItem) loadedItems.get(0);
+        assertEquals("Milk", milk.getItemName());
+        assertEquals(180, milk.getItemQuantity());
+        assertEquals(20, milk.getTotalUnitsSold());
+        assertEquals(0, new File(dataDirectoryPath + "items_journal.txt").length());
+    }
+
+    @Test
+    void replayJournal_deleteThenAddSameName_expectItemMovedToEnd() {
+        ArrayList<Item> snapshot = new ArrayList<>();
+        snapshot.add(new RetailItem("Book", "Science Fiction Novel", 10, 6.99, 5.99, 5));
+        snapshot.add(new OperationalItem("Hammer", "Heavy Duty Hammer", 50, 19.99, 20));
+
+        ArrayList<Item> replayedItems = storage.replayJournal(snapshot, List.of(
+                "DELETE|RetailItem|Book|Science Fiction Novel|10|5.99|10|5| |6.99|0|",
+                "ADD|OperationalItem|Book|Bookend|3|2.0|3|1| | | |"));
+
+        assertEquals(2, replayedItems.size());
+        assertEquals("Hammer", replayedItems.get(0).getItemName());
+        assertInstanceOf(OperationalItem.class, replayedItems.get(1));
+        assertEquals("Bookend", replayedItems.get(1).getItemDescription());
+    }
+
+    @Test
+    void replayJournal_truncatedLastEntry_expectEntrySkipped() {
+        ArrayList<Item> replayedItems = storage.replayJournal(new ArrayList<>(), List.of(
+                "ADD|RetailItem|Book|Science Fiction Novel|10|5.99|10|5| |6.99|0|",
+                "SELL|RetailItem|Book|Science Fict"));
+
+        assertEquals(1, replayedItems.size());
+        assertEquals(10, replayedItems.get(0).getItemQuantity());
+        assertFalse(storage.isCorrupted);
+    }
+
+    @Test
+    void saveToStorage_existingDataFile_replacedWithoutLeavingTemporaryFile(@TempDir Path dataDirectory)
+            throws IOException {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        File dataFile = new File(dataDirectoryPath + "items.txt");
+        Files.write(dataFile.toPath(), "RetailItem|Book|Science Fiction Novel|10|5.99|100|5||6.99|80|".getBytes());
+        Storage storage = new Storage(dataDirectoryPath);
+        ArrayList<Item> itemList = new ArrayList<>();
+        itemList.add(new OperationalItem("item1", "description1", 10, 5.0, 2));
+
+        storage.saveToStorage(itemList);
+        storage.close();
+
+        assertEquals("OperationalItem|item1|description1|10|5.0|10|2| | | |" + System.lineSeparator(),
+                new String(Files.readAllBytes(dataFile.toPath())));
+        assertFalse(new File(dataDirectoryPath + "items.txt.tmp").exists());
+    }
+
+    @Test
+    void saveChanges_periodicDurability_changesReplayedAfterClose(@TempDir Path dataDirectory) {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        Storage firstSessionStorage = new Storage(dataDirectoryPath);
+        firstSessionStorage.setDurabilityLevel(DurabilityLevelEnum.PERIODIC);
+        ItemList itemList = new ItemList(firstSessionStorage.loadData());
+
+        for (int i = 0; i < 5; i++) {
+            itemList.addItem("operational", "item" + i, "description", 1, LocalDate.MIN, 0.0, 1.0, 0);
+            firstSessionStorage.saveChanges(itemList.drainPendingChanges(), itemList.getItemList());
+        }
+        firstSessionStorage.close();
+
+        Storage secondSessionStorage = new Storage(dataDirectoryPath);
+        assertEquals(5, secondSessionStorage.loadData().size());
+        secondSessionStorage.close();
+    }
+
+    @Test
+    void loadData_binaryFormatWithTextDataFile_expectItemsImportedIntoBinaryDataFile(@TempDir Path dataDirectory)
+            throws IOException {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        Files.write(new File(dataDirectoryPath + "items.txt").toPath(),
+                "RetailItem|Book|Science Fiction Novel|10|5.99|100|5| |6.99|80|".getBytes());
+        Storage binaryStorage = new Storage(dataDirectoryPath);
+        binaryStorage.setSnapshotFormat(SnapshotFormatEnum.BINARY);
+
+        assertEquals(1, binaryStorage.loadData().size());
+        binaryStorage.close();
+        assertTrue(new File(dataDirectoryPath + "items.bin").exists());
+        assertFalse(new File(dataDirectoryPath + "items.txt").exists());
+
+        Storage textStorage = new Storage(dataDirectoryPath);
+        ArrayList<Item> loadedItems = textStorage.loadData();
+        textStorage.close();
+
+        assertEquals(1, loadedItems.size());
+        assertEquals(80, ((RetailItem) loadedItems.get(0)).getTotalUnitsSold());
+        assertTrue(new File(dataDirectoryPath + "items.txt").exists());
+        assertFalse(new File(dataDirectoryPath + "items.bin").exists());
+    }
+
+    @Test
+    void loadData_binaryFormatWithJournal_expectChangesReplayed(@TempDir Path dataDirectory)
+            throws InvalidCommandException {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        Storage firstSessionStorage = new Storage(dataDirectoryPath);
+        firstSessionStorage.setSnapshotFormat(SnapshotFormatEnum.BINARY);
+        ItemList itemList = new ItemList(firstSessionStorage.loadData());
+
+        itemList.addItem("retail", "Milk", "2L Whole Milk", 200, LocalDate.MIN, 2.99, 1.99, 50);
+        firstSessionStorage.saveToStorage(itemList.getItemList());
+        itemList.sellOrRestockItem("Milk", 20, "sell");
+        firstSessionStorage.saveChanges(itemList.drainPendingChanges(), itemList.getItemList());
+        firstSessionStorage.close();
+
+        Storage secondSessionStorage = new Storage(dataDirectoryPath);
+        secondSessionStorage.setSnapshotFormat(SnapshotFormatEnum.BINARY);
+        ArrayList<Item> loadedItems = secondSessionStorage.loadData();
+        secondSessionStorage.close();
+
+        assertEquals(1, loadedItems.size());
+        assertEquals(180, loadedItems.get(0).getItemQuantity());
+    }
+
+    @Test
+    void loadData_corruptedBinaryDataFile_expectFileRenamedAndEmptyList(@TempDir Path dataDirectory)
+            throws IOException {
+        String dataDirectoryPath = dataDirectory.toString() + File.separator;
+        Files.write(new File(dataDirectoryPath + "items.bin").toPath(), "not a binary data file".getBytes());
+        Storage binaryStorage = new Storage(dataDirectoryPath);
+        binaryStorage.setSnapshotFormat(SnapshotFormatEnum.BINARY);
+
+        assertEquals(0, binaryStorage.loadData().size());
+        binaryStorage.close();
+        assertTrue(binaryStorage.isCorrupted);
+        assertTrue(new File(dataDirectoryPath + "items_corrupted.bin").exists());
+        assertTrue(new File(dataDirectoryPath + "items.bin").exists());
+    }
+
+    @Test
+    void convertLineToItem_randomItemsOfEveryType_expectRoundTrip() {
+        Random random = new Random(2113);
+        for (int run = 0; run < 10000; run++) {
+            String name = "item " + random.nextInt();
+            String description = random.nextBoolean() ? "" : "description " + random.nextLong();
+            int quantity = random.nextInt(Integer.MAX_VALUE);
+            double costPrice = random.nextInt(1000000) / 100.0;
+            double salePrice = random.nextDouble() * 1000;
+            int threshold = random.nextInt(1000);
+            LocalDate expirationDate = LocalDate.ofEpochDay(random.nextInt(3000000));
+
+            Item item;
+            switch (run % 4) {
+            case 0:
+                item = new OperationalItem(name, description, quantity, costPrice, threshold);
+                break;
+            case 1:
+                item = new PerishableOperationalItem(name, description, quantity, expirationDate, costPrice,
+                        threshold);
+                break;
+            case 2:
+                item = new RetailItem(name, description, quantity, salePrice, costPrice, threshold);
+                ((RetailItem) item).setTotalUnitsSold(random.nextInt(Integer.MAX_VALUE));
+                break;
+            default:
+                item = new PerishableRetailItem(name, description, quantity, expirationDate, salePrice, costPrice,
+                        threshold);
+                ((RetailItem) item).setTotalUnitsSold(random.nextInt(Integer.MAX_VALUE));
+                break;
+            }
+            item.setTotalUnitsPurchased(random.nextInt(Integer.MAX_VALUE));
+
+            String line = storage.generateStorageRepresentationOfSingleItem(item);
+            Item convertedItem = storage.convertLineToItem(line);
+
+            assertEquals(item.getClass(), convertedItem.getClass());
+            assertEquals(line, storage.generateStorageRepresentationOfSingleItem(convertedItem));
+        }
+    }
 }